@@ -0,0 +1,55 @@
+package com.spacecomplexity.longboilife.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.world.World;
+import com.spacecomplexity.longboilife.game.world.WorldGenerator;
+
+import java.io.File;
+
+/**
+ * Shared setup for the benchmarks, so every benchmark measures the same worlds.
+ */
+final class BenchmarkWorlds {
+    /**
+     * The seed used to generate every benchmark world.
+     */
+    static final long SEED = 0x10B01L;
+
+    private BenchmarkWorlds() {
+    }
+
+    /**
+     * Generate a square world with roads and buildings.
+     *
+     * @param size             the width and height of the world (in tiles).
+     * @param buildingsPerType the number of each non-pathway building to place.
+     * @param gameState        the state of the game the world belongs to.
+     * @return the generated world.
+     */
+    static World generate(int size, int buildingsPerType, GameState gameState) {
+        WorldGenerator generator = new WorldGenerator(SEED, size, size);
+        for (BuildingType type : BuildingType.values()) {
+            if (type.getCategory() != BuildingCategory.PATHWAY) {
+                generator.setBuildingDensity(type, (float) buildingsPerType / (size * size));
+            }
+        }
+
+        return generator.generate(gameState);
+    }
+
+    /**
+     * Get the handle to the map file shipped with the game.
+     * <p>
+     * The assets directory is passed in by the Gradle build as the {@code longboilife.assets} system property, if this
+     * is not set then the {@code assets} directory in the working directory is used.
+     *
+     * @return the handle to the map file.
+     */
+    static FileHandle getMapFile() {
+        String assets = System.getProperty("longboilife.assets", "assets");
+        return new FileHandle(new File(assets, "map.json"));
+    }
+}
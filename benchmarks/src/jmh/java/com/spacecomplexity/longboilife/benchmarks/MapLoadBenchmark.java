@@ -0,0 +1,46 @@
+package com.spacecomplexity.longboilife.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.tile.InvalidSaveMapException;
+import com.spacecomplexity.longboilife.game.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of loading the game's map from {@code map.json}, as done when starting a new game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapLoadBenchmark {
+    private FileHandle mapFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws FileNotFoundException {
+        mapFile = BenchmarkWorlds.getMapFile();
+        if (!mapFile.exists()) {
+            throw new FileNotFoundException("Map file does not exist: \"" + mapFile.path() + "\"");
+        }
+    }
+
+    @Benchmark
+    public World loadMap() throws FileNotFoundException, InvalidSaveMapException {
+        return new World(mapFile, new GameState());
+    }
+}
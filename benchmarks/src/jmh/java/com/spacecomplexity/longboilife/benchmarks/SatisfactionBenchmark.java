@@ -0,0 +1,90 @@
+package com.spacecomplexity.longboilife.benchmarks;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.utils.Satisfaction;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+import com.spacecomplexity.longboilife.game.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of calculating satisfaction, which pathfinds from every accommodation building to every other building.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SatisfactionBenchmark {
+    /**
+     * The width and height of the world (in tiles).
+     */
+    @Param({"32", "64", "128"})
+    public int size;
+
+    /**
+     * The number of each non-pathway building in the world.
+     */
+    @Param({"1", "4"})
+    public int buildingsPerType;
+
+    private GameState gameState;
+    private World world;
+    private Satisfaction.AStar pathfinder;
+
+    // The entrances of the two buildings furthest apart, matching the positions used when calculating satisfaction
+    private Vector2Int start;
+    private Vector2Int end;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        gameState = new GameState();
+        world = BenchmarkWorlds.generate(size, buildingsPerType, gameState);
+        pathfinder = new Satisfaction.AStar(world);
+
+        List<Building> accommodation = Satisfaction.getAccommodationBuildings(world.buildings);
+        List<Building> utilities = Satisfaction.getUtilityBuildings(world.buildings);
+        if (accommodation.isEmpty() || utilities.isEmpty()) {
+            throw new IllegalStateException("Benchmark world has no accommodation or utility buildings");
+        }
+
+        // Find the furthest utility building from the first accommodation building
+        Building from = accommodation.get(0);
+        Building to = utilities.get(0);
+        for (Building building : utilities) {
+            if (building.getPosition().subtract(from.getPosition()).mag2() > to.getPosition().subtract(from.getPosition()).mag2()) {
+                to = building;
+            }
+        }
+
+        start = from.getPosition().add(new Vector2Int(1, -1));
+        end = to.getPosition().add(new Vector2Int(1, -1));
+    }
+
+    @Benchmark
+    public double updateSatisfactionScore() {
+        Satisfaction.updateSatisfactionScore(world, gameState);
+
+        return gameState.satisfactionScore;
+    }
+
+    @Benchmark
+    public double getBuildingDistance() {
+        return Satisfaction.getBuildingDistance(pathfinder, start, end);
+    }
+}
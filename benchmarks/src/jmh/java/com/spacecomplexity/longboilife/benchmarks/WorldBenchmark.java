@@ -0,0 +1,138 @@
+package com.spacecomplexity.longboilife.benchmarks;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.pathways.PathwayPositions;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+import com.spacecomplexity.longboilife.game.world.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of placing, removing and querying buildings in the {@link World}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldBenchmark {
+    /**
+     * The width and height of the world (in tiles).
+     */
+    @Param({"32", "64", "128"})
+    public int size;
+
+    /**
+     * The number of each non-pathway building in the world.
+     */
+    @Param({"2", "8"})
+    public int buildingsPerType;
+
+    /**
+     * The size of the area from the bottom left of the world which {@link World#getPathDistance(Vector2Int, Vector2Int)}
+     * searches across (in tiles).
+     * <p>
+     * The search visits every pathway closer than the target, so this keeps the benchmark measuring the same distance
+     * on every world size.
+     */
+    private static final int PATH_AREA = 32;
+
+    private World world;
+
+    // Random positions to check, cycled through so each call checks a different position
+    private Vector2Int[] positions;
+    private int positionIndex;
+
+    // Existing buildings which are demolished and rebuilt in place
+    private Building building;
+    private Building road;
+
+    // Two pathways at opposite corners of the path area
+    private Vector2Int pathStart;
+    private Vector2Int pathEnd;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        world = BenchmarkWorlds.generate(size, buildingsPerType, new GameState());
+
+        Random rng = new Random(BenchmarkWorlds.SEED);
+        positions = new Vector2Int[1024];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new Vector2Int(rng.nextInt(size), rng.nextInt(size));
+        }
+
+        for (Building existing : world.buildings) {
+            if (existing.getType().getCategory() == BuildingCategory.PATHWAY) {
+                if (road == null) {
+                    road = existing;
+                }
+            }
+            else if (building == null) {
+                building = existing;
+            }
+        }
+
+        for (int x = 0; x < Math.min(size, PATH_AREA); x++) {
+            for (int y = 0; y < Math.min(size, PATH_AREA); y++) {
+                Vector2Int position = new Vector2Int(x, y);
+                if (world.getPathwayPosition(position) != null) {
+                    if (pathStart == null) {
+                        pathStart = position;
+                    }
+                    pathEnd = position;
+                }
+            }
+        }
+
+        if (building == null || road == null || pathStart == null) {
+            throw new IllegalStateException("Benchmark world has no buildings or roads");
+        }
+    }
+
+    @Benchmark
+    public boolean canBuild() {
+        Vector2Int position = positions[positionIndex];
+        positionIndex = (positionIndex + 1) % positions.length;
+
+        return world.canBuild(BuildingType.CAFETERIA, position);
+    }
+
+    @Benchmark
+    public Building demolishAndBuild() {
+        world.demolish(building);
+        world.build(building);
+
+        return building;
+    }
+
+    @Benchmark
+    public PathwayPositions retilePathway() {
+        // Removing and replacing the road updates the layout of it and its neighbours each time
+        world.demolish(road);
+        world.build(road);
+
+        return world.getPathwayPosition(road.getPosition());
+    }
+
+    @Benchmark
+    public int getPathDistance() {
+        return world.getPathDistance(pathStart, pathEnd);
+    }
+}
@@ -2,11 +2,14 @@ package com.spacecomplexity.longboilife;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Screen;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.GameScreen;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.menu.MenuScreen;
 import com.spacecomplexity.longboilife.settings.SettingsScreen;
 import com.spacecomplexity.longboilife.leaderboard.LeaderboardScreen;
 import com.spacecomplexity.longboilife.controls.ControlsScreen;
+import com.spacecomplexity.longboilife.achievements.AchievementManager;
 import java.util.HashMap;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.LifecycleListener;
@@ -142,6 +145,18 @@ public class Main extends Game {
         return currentScreen instanceof GameScreen ? (GameScreen) currentScreen : null;
     }
 
+    /**
+     * Get the context of the current game if there is one.
+     *
+     * @return the context of the current game, or null if a game has not been started.
+     */
+    public GameContext getGameContext() {
+        if (gameScreen != null) {
+            return gameScreen.getContext();
+        }
+        return null;
+    }
+
     public UIManager getUIManager() {
         if (gameScreen != null) {
             return gameScreen.getUIManager();
@@ -161,6 +176,9 @@ public class Main extends Game {
             }
         }
         screens.clear();
+        // Achievements are saved in the background, so make sure the last save is written before closing
+        AchievementManager.getInstance().flush();
+        Assets.dispose();
         super.dispose();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.spacecomplexity.longboilife;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.spacecomplexity.longboilife.game.globals.Keybindings;
 import com.spacecomplexity.longboilife.game.utils.Events;
@@ -11,8 +12,18 @@ import com.spacecomplexity.longboilife.game.utils.EventHandler;
  * Input manager to handle inputs which should always be handled.
  */
 public class MainInputManager extends InputAdapter {
-    GameState gameState = GameState.getState();
-    EventHandler eventHandler = EventHandler.getEventHandler();
+    private final GameState gameState;
+    private final EventHandler eventHandler;
+
+    /**
+     * Create an input manager for a screen.
+     *
+     * @param context the context of the game in progress, or null if there is no game (only fullscreen will be handled).
+     */
+    public MainInputManager(GameContext context) {
+        gameState = context == null ? null : context.getGameState();
+        eventHandler = context == null ? null : context.getEventHandler();
+    }
 
     /**
      * Handles onKeyPress events.
@@ -22,8 +33,8 @@ public class MainInputManager extends InputAdapter {
      */
     @Override
     public boolean keyDown(int keycode) {
-        // If game is over, only allow fullscreen toggle
-        if (GameState.getState().gameOver) {
+        // If there is no game or the game is over, only allow fullscreen toggle
+        if (gameState == null || gameState.gameOver) {
             if (keycode == Keybindings.FULLSCREEN.getKey()) {
                 Main.fullscreen = !Main.fullscreen;
 
@@ -42,7 +53,7 @@ public class MainInputManager extends InputAdapter {
         // Add this before the existing keyDown logic
         if (keycode == com.badlogic.gdx.Input.Keys.SHIFT_LEFT || 
             keycode == com.badlogic.gdx.Input.Keys.SHIFT_RIGHT) {
-            GameState.getState().shiftHeld = true;
+            gameState.shiftHeld = true;
             return true;
         }
         
@@ -89,9 +100,13 @@ public class MainInputManager extends InputAdapter {
 
     @Override
     public boolean keyUp(int keycode) {
+        if (gameState == null) {
+            return false;
+        }
+
         if (keycode == com.badlogic.gdx.Input.Keys.SHIFT_LEFT || 
             keycode == com.badlogic.gdx.Input.Keys.SHIFT_RIGHT) {
-            GameState.getState().shiftHeld = false;
+            gameState.shiftHeld = false;
             return true;
         }
         return false;
@@ -5,22 +5,25 @@ public class Achievement {
     private final String title;
     private final String description;
     private boolean unlocked;
-    private boolean failed;
-    private final AchievementType type;
-
-    public enum AchievementType {
-        BUILDING_COUNT,
-        SATISFACTION_SCORE,
-        BUDGET
-    }
+    private final AchievementRule rule;
     
-    public Achievement(String id, String title, String description, AchievementType type) {
+    public Achievement(String id, String title, String description, AchievementRule rule) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.unlocked = false;
-        this.failed = false;
-        this.type = type;
+        this.rule = rule;
+    }
+
+    /**
+     * Create a copy of this achievement, so it can be saved while the original keeps changing.
+     *
+     * @return the copy.
+     */
+    public Achievement copy() {
+        Achievement copy = new Achievement(id, title, description, rule);
+        copy.unlocked = unlocked;
+        return copy;
     }
     
     // Getters and setters
@@ -44,15 +47,7 @@ public class Achievement {
         this.unlocked = unlocked;
     }
     
-    public AchievementType getType() { 
-        return type;
-    }
-
-    public boolean isFailed() {
-        return failed;
-    }
-
-    public void setFailed(boolean failed) {
-        this.failed = failed;
+    public AchievementRule getRule() { 
+        return rule;
     }
 }
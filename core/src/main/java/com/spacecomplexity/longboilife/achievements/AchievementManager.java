@@ -2,14 +2,12 @@ package com.spacecomplexity.longboilife.achievements;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Arrays;
-import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.building.BuildingType;
-import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.achievements.notification.Notification;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -17,46 +15,72 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
 public class AchievementManager {
     private static final String ACHIEVEMENTS_FILE = "achievements.json";
+    private static final String DEFINITIONS_FILE = "achievements/definitions.json";
     private static AchievementManager instance;
     private final List<Achievement> achievements;
-    private final Json json;
+    // Achievements are saved in the background, the achievements in memory are always the latest
+    private final AchievementWriter writer;
     private Notification notification;
     
     private AchievementManager() {
         achievements = new ArrayList<>();
-        json = new Json();
-        json.setOutputType(JsonWriter.OutputType.json);
+        writer = new AchievementWriter(Gdx.files.local(ACHIEVEMENTS_FILE));
         
-        // Initialize default achievements
+        // Load the achievements, then which have been unlocked
         initializeAchievements();
         loadAchievements();
     }
     
-    public void initializeNotification(Viewport viewport, Table parentTable, Skin skin) {
-        notification = new Notification(viewport, parentTable, skin);
+    public void initializeNotification(Viewport viewport, Table parentTable, Skin skin, GameContext context) {
+        notification = new Notification(viewport, parentTable, skin, context);
     }
     
+    /**
+     * Load the definitions of the achievements, compiling their rules.
+     * <p>
+     * Each definition has an id, title and description, and either an {@code unlock} rule which unlocks it as soon as
+     * it holds, or a {@code maintain} rule which must hold for the whole game. Any definition which cannot be read is
+     * skipped.
+     */
     private void initializeAchievements() {
-        achievements.add(new Achievement(
-            "highly_satisfied",
-            "Highly Satisfied",
-            "Satisfaction score of 90% or more",
-            Achievement.AchievementType.SATISFACTION_SCORE
-        ));
-        
-        achievements.add(new Achievement(
-            "campus_master",
-            "Campus Master",
-            "Build 30 buildings",
-            Achievement.AchievementType.BUILDING_COUNT
-        ));
+        JsonValue definitions;
+        try {
+            definitions = new JsonReader().parse(Gdx.files.internal(DEFINITIONS_FILE).readString("UTF-8"));
+        } catch (Exception e) {
+            Gdx.app.error("AchievementManager", "Error loading achievement definitions", e);
+            return;
+        }
+        if (definitions == null) {
+            return;
+        }
+
+        HashSet<String> ids = new HashSet<>();
+        for (JsonValue definition = definitions.child; definition != null; definition = definition.next) {
+            String id = definition.getString("id", null);
+            try {
+                if (id == null || !ids.add(id)) {
+                    throw new IllegalArgumentException("Missing or duplicate id");
+                }
+
+                AchievementRule rule;
+                if (definition.has("unlock")) {
+                    rule = AchievementRule.compile(AchievementRule.Kind.REACH, definition.getString("unlock"));
+                } else if (definition.has("maintain")) {
+                    rule = AchievementRule.compile(AchievementRule.Kind.MAINTAIN, definition.getString("maintain"));
+                } else {
+                    throw new IllegalArgumentException("No unlock or maintain rule");
+                }
 
-        achievements.add(new Achievement(
-            "budget_master",
-            "Budget Master",
-            "Never go below £400,000",
-            Achievement.AchievementType.BUDGET
-        ));
+                achievements.add(new Achievement(
+                    id,
+                    definition.getString("title", id),
+                    definition.getString("description", ""),
+                    rule
+                ));
+            } catch (IllegalArgumentException e) {
+                Gdx.app.error("AchievementManager", "Skipping achievement " + id + ": " + e.getMessage());
+            }
+        }
     }
     
     public static AchievementManager getInstance() {
@@ -66,60 +90,19 @@ public class AchievementManager {
         return instance;
     }
     
-    public void checkAchievements() {
-        for (Achievement achievement : achievements) {
-            if (!achievement.isUnlocked()) {
-                switch (achievement.getType()) {
-                    case SATISFACTION_SCORE:
-                        checkSatisfactionAchievements(achievement);
-                        break;
-                    case BUILDING_COUNT:
-                        checkBuildingAchievements(achievement);
-                        break;
-                    case BUDGET:
-                        checkBudgetAchievements(achievement);
-                        break;
-                    // Add more cases for different achievement types
-                }
-            }
-        }
-    }
-    
-    private void checkSatisfactionAchievements(Achievement achievement) {
-        double satisfactionScore = GameState.getState().satisfactionScore;
-        if (achievement.getId().equals("highly_satisfied") && satisfactionScore >= 90.0) {
-            unlockAchievement(achievement);
-        }
-    }
-    
-    private void checkBuildingAchievements(Achievement achievement) {
-        int totalBuildings = 0;
-        for (BuildingType type : BuildingType.values()) {
-            // Skip counting roads/pathways6
-            if (type.getCategory() != BuildingCategory.PATHWAY) {
-                totalBuildings += GameState.getState().getBuildingCount(type);
-            }
-        }
-        
-        if (achievement.getId().equals("campus_master") && totalBuildings >= 30) {
-            unlockAchievement(achievement);
-        }
+    /**
+     * Start tracking the achievements in a new game.
+     * <p>
+     * The tracker subscribes to the game's event bus, so achievements are unlocked as the game goes on.
+     *
+     * @param context the context of the game.
+     * @return the tracker for this game.
+     */
+    public AchievementTracker track(GameContext context) {
+        return new AchievementTracker(this, achievements, context);
     }
     
-    private void checkBudgetAchievements(Achievement achievement) {
-        double currentBudget = GameState.getState().getBudget();
-        if (achievement.getId().equals("budget_master")) {
-            if (currentBudget < 400000) {
-                // If budget drops below 400,000, mark the achievement as failed
-                achievement.setFailed(true);
-            } else if (!achievement.isFailed() && GameState.getState().gameOver) {
-                // Only award the achievement if the game is over and we never dropped below 400,000
-                unlockAchievement(achievement);
-            }
-        }
-    }
-    
-    private void unlockAchievement(Achievement achievement) {
+    void unlockAchievement(Achievement achievement) {
         achievement.setUnlocked(true);
         saveAchievements();
         if (notification != null) {
@@ -128,29 +111,50 @@ public class AchievementManager {
         Gdx.app.log("Achievement Unlocked", achievement.getTitle() + " - " + achievement.getDescription()); //Troubleshooting
     }
     
+    /**
+     * Save the achievements without waiting for them to be written.
+     * <p>
+     * If this is called again before the file is written, only the latest achievements are written.
+     */
     private void saveAchievements() {
-        try {
-            FileHandle file = Gdx.files.local(ACHIEVEMENTS_FILE);
-            String jsonString = json.prettyPrint(achievements);
-            file.writeString(jsonString, false);
-        } catch (Exception e) {
-            Gdx.app.error("AchievementManager", "Error saving achievements", e);
+        Achievement[] snapshot = new Achievement[achievements.size()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = achievements.get(i).copy();
         }
+        writer.save(snapshot);
     }
     
+    /**
+     * Wait for any saved achievements to be written, this should be called before the game closes.
+     */
+    public void flush() {
+        writer.flush();
+    }
+    
+    /**
+     * Load which achievements have been unlocked in previous games.
+     * <p>
+     * Only the unlocked state is read, matched by id, so achievements which have been changed or added since the file
+     * was written keep their current definition.
+     */
     private void loadAchievements() {
         try {
             FileHandle file = Gdx.files.local(ACHIEVEMENTS_FILE);
-            if (!file.exists() || file.length() == 0) { //If file doesn't exist or is empty, return an empty ArrayList
+            if (!file.exists() || file.length() == 0) { //If file doesn't exist or is empty, keep the defaults
                 return;
             }
-            String content = file.readString().trim();
-            if (content.isEmpty()) { //If file is empty, return an empty ArrayList
+            JsonValue saved = new JsonReader().parse(file.readString("UTF-8"));
+            if (saved == null) {
                 return;
             }
-            Achievement[] loadedAchievements = json.fromJson(Achievement[].class, file);
-            achievements.clear();
-            achievements.addAll(Arrays.asList(loadedAchievements));
+            for (JsonValue value = saved.child; value != null; value = value.next) {
+                String id = value.getString("id", null);
+                for (Achievement achievement : achievements) {
+                    if (achievement.getId().equals(id)) {
+                        achievement.setUnlocked(value.getBoolean("unlocked", false));
+                    }
+                }
+            }
         } catch (Exception e) {
             Gdx.app.error("AchievementManager", "Error loading achievements", e);
         }
@@ -0,0 +1,180 @@
+package com.spacecomplexity.longboilife.achievements;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The condition for unlocking an achievement, a set of comparisons of {@link Metric}s to thresholds which must all
+ * hold.
+ * <p>
+ * A rule either has to be reached at any point in the game, or maintained for the whole game, in which case it fails
+ * as soon as the condition does not hold and unlocks when the game ends.
+ * <p>
+ * Rules are compiled from expressions such as {@code "buildings >= 30 and satisfaction >= 80"} when achievements are
+ * loaded. The comparisons are stored in parallel arrays, so evaluating a rule is a loop over them with no lookups.
+ */
+public final class AchievementRule {
+    /**
+     * How a rule is satisfied.
+     */
+    public enum Kind {
+        // Unlocks as soon as the condition holds
+        REACH,
+        // Fails as soon as the condition does not hold, and unlocks at the end of the game if it never failed
+        MAINTAIN,
+    }
+
+    /**
+     * How a metric is compared to a threshold.
+     */
+    public enum Comparison {
+        AT_LEAST(">="),
+        AT_MOST("<="),
+        ABOVE(">"),
+        BELOW("<"),
+        ;
+
+        private final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Compare a value to a threshold.
+         *
+         * @param value     the value of the metric.
+         * @param threshold the threshold.
+         * @return whether the comparison holds.
+         */
+        public boolean test(double value, double threshold) {
+            return switch (this) {
+                case AT_LEAST -> value >= threshold;
+                case AT_MOST -> value <= threshold;
+                case ABOVE -> value > threshold;
+                case BELOW -> value < threshold;
+            };
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+    }
+
+    /**
+     * The result of evaluating a rule.
+     */
+    public enum Result {
+        // Nothing has changed
+        NONE,
+        UNLOCKED,
+        // The rule can no longer be satisfied this game
+        FAILED,
+    }
+
+    private final Kind kind;
+    // Each comparison, indexed together
+    private final int[] metrics;
+    private final Comparison[] comparisons;
+    private final double[] thresholds;
+    private final Metric[] dependencies;
+
+    private AchievementRule(Kind kind, Metric[] metrics, Comparison[] comparisons, double[] thresholds) {
+        this.kind = kind;
+        this.comparisons = comparisons;
+        this.thresholds = thresholds;
+
+        this.metrics = new int[metrics.length];
+        for (int i = 0; i < metrics.length; i++) {
+            this.metrics[i] = metrics[i].ordinal();
+        }
+
+        // A rule which is maintained also depends on the end of the game
+        Metric[] dependencies = Arrays.stream(metrics).distinct().toArray(Metric[]::new);
+        if (kind == Kind.MAINTAIN && !Arrays.asList(dependencies).contains(Metric.GAME_OVER)) {
+            dependencies = Arrays.copyOf(dependencies, dependencies.length + 1);
+            dependencies[dependencies.length - 1] = Metric.GAME_OVER;
+        }
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Compile a rule from an expression.
+     * <p>
+     * An expression is one or more comparisons joined by {@code and}, where each comparison is a metric name, one of
+     * {@code >=}, {@code <=}, {@code >} or {@code <}, and a number, such as {@code "money >= 400000"}.
+     *
+     * @param kind       how the rule is satisfied.
+     * @param expression the expression.
+     * @return the compiled rule.
+     * @throws IllegalArgumentException if the expression is not valid.
+     */
+    public static AchievementRule compile(Kind kind, String expression) throws IllegalArgumentException {
+        String[] terms = expression.trim().split("\\s+and\\s+");
+        Metric[] metrics = new Metric[terms.length];
+        Comparison[] comparisons = new Comparison[terms.length];
+        double[] thresholds = new double[terms.length];
+
+        for (int i = 0; i < terms.length; i++) {
+            String[] parts = terms[i].trim().split("\\s+");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected \"<metric> <comparison> <number>\" but got \"" + terms[i] + "\"");
+            }
+
+            try {
+                metrics[i] = Metric.valueOf(parts[0].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown metric \"" + parts[0] + "\"");
+            }
+
+            for (Comparison comparison : Comparison.values()) {
+                if (comparison.getSymbol().equals(parts[1])) {
+                    comparisons[i] = comparison;
+                }
+            }
+            if (comparisons[i] == null) {
+                throw new IllegalArgumentException("Unknown comparison \"" + parts[1] + "\"");
+            }
+
+            try {
+                thresholds[i] = Double.parseDouble(parts[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number \"" + parts[2] + "\"");
+            }
+        }
+
+        return new AchievementRule(kind, metrics, comparisons, thresholds);
+    }
+
+    /**
+     * Get the metrics this rule depends on, it only needs evaluating when one of these changes.
+     *
+     * @return the metrics, this must not be modified.
+     */
+    public Metric[] getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Evaluate this rule.
+     *
+     * @param values the current value of every metric this depends on, indexed by {@link Metric#ordinal()}.
+     * @return whether the achievement is unlocked or failed.
+     */
+    public Result evaluate(double[] values) {
+        boolean holds = true;
+        for (int i = 0; i < metrics.length && holds; i++) {
+            holds = comparisons[i].test(values[metrics[i]], thresholds[i]);
+        }
+
+        return switch (kind) {
+            case REACH -> holds ? Result.UNLOCKED : Result.NONE;
+            case MAINTAIN -> {
+                if (!holds) {
+                    yield Result.FAILED;
+                }
+                yield values[Metric.GAME_OVER.ordinal()] != 0 ? Result.UNLOCKED : Result.NONE;
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.spacecomplexity.longboilife.achievements;
+
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.events.BuildingBuilt;
+import com.spacecomplexity.longboilife.game.events.BuildingDemolished;
+import com.spacecomplexity.longboilife.game.events.DirtyFlag;
+import com.spacecomplexity.longboilife.game.events.EventBus;
+import com.spacecomplexity.longboilife.game.events.GameEnded;
+import com.spacecomplexity.longboilife.game.events.TickEnded;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tracks the progress of achievements during a game.
+ * <p>
+ * Each achievement depends on some {@link Metric}s, and is only evaluated when one of these changes. The metrics are
+ * checked at the end of every tick (and whenever the player builds while the game is paused), which only reads the
+ * metrics that an achievement which is still locked depends on.
+ */
+public class AchievementTracker {
+    private static final Metric[] METRICS = Metric.values();
+
+    private final AchievementManager manager;
+    private final GameState gameState;
+    private final List<Achievement> achievements;
+
+    // The metrics any achievement being tracked depends on
+    private final Metric[] watched;
+    // The indices of the achievements depending on each metric, indexed by Metric#ordinal()
+    private final int[][] dependents;
+    // The last value read of each metric, NaN until first read so every achievement is evaluated once
+    private final double[] values = new double[METRICS.length];
+    private final boolean[] changed = new boolean[METRICS.length];
+
+    // Whether each achievement can no longer be unlocked this game
+    private final boolean[] failed;
+    // The update each achievement was last evaluated in, so one depending on several changed metrics is evaluated once
+    private final int[] evaluatedIn;
+    private int updateCount = 0;
+
+    /**
+     * Start tracking achievements in a game, subscribing to its event bus.
+     * <p>
+     * Achievements which have already been unlocked are not tracked.
+     *
+     * @param manager      the manager to unlock achievements with.
+     * @param achievements the achievements to track.
+     * @param context      the context of the game.
+     */
+    AchievementTracker(AchievementManager manager, List<Achievement> achievements, GameContext context) {
+        this.manager = manager;
+        this.gameState = context.getGameState();
+        this.achievements = achievements;
+
+        failed = new boolean[achievements.size()];
+        evaluatedIn = new int[achievements.size()];
+
+        // Find the achievements depending on each metric
+        int[] dependentCounts = new int[METRICS.length];
+        for (Achievement achievement : achievements) {
+            if (!achievement.isUnlocked()) {
+                for (Metric metric : achievement.getRule().getDependencies()) {
+                    dependentCounts[metric.ordinal()]++;
+                }
+            }
+        }
+        dependents = new int[METRICS.length][];
+        int watchedCount = 0;
+        for (int i = 0; i < METRICS.length; i++) {
+            dependents[i] = new int[dependentCounts[i]];
+            if (dependentCounts[i] > 0) {
+                watchedCount++;
+            }
+        }
+        watched = new Metric[watchedCount];
+        watchedCount = 0;
+        for (Metric metric : METRICS) {
+            if (dependentCounts[metric.ordinal()] > 0) {
+                watched[watchedCount++] = metric;
+            }
+        }
+        Arrays.fill(dependentCounts, 0);
+        for (int i = 0; i < achievements.size(); i++) {
+            Achievement achievement = achievements.get(i);
+            if (!achievement.isUnlocked()) {
+                for (Metric metric : achievement.getRule().getDependencies()) {
+                    dependents[metric.ordinal()][dependentCounts[metric.ordinal()]++] = i;
+                }
+            }
+        }
+        Arrays.fill(values, Double.NaN);
+
+        // Check achievements after each tick, after anything the player did while paused and when the game ends
+        // The flag is created after the simulation's, so the satisfaction score is always up to date
+        EventBus eventBus = context.getEventBus();
+        DirtyFlag dirty = eventBus.createDirtyFlag("achievements", this::update);
+        eventBus.subscribe(BuildingBuilt.TYPE, (event) -> dirty.mark());
+        eventBus.subscribe(BuildingDemolished.TYPE, (event) -> dirty.mark());
+        eventBus.subscribe(TickEnded.TYPE, (event) -> update());
+        eventBus.subscribe(GameEnded.TYPE, (event) -> update());
+    }
+
+    /**
+     * Read the metrics, evaluating every achievement depending on one which has changed since they were last read.
+     */
+    public void update() {
+        boolean anyChanged = false;
+        for (Metric metric : watched) {
+            int index = metric.ordinal();
+            double value = metric.read(gameState);
+            // NaN is never equal, so every metric is changed the first time it is read
+            changed[index] = value != values[index];
+            values[index] = value;
+            anyChanged |= changed[index];
+        }
+        if (!anyChanged) {
+            return;
+        }
+
+        updateCount++;
+        for (Metric metric : watched) {
+            if (!changed[metric.ordinal()]) {
+                continue;
+            }
+            for (int index : dependents[metric.ordinal()]) {
+                if (evaluatedIn[index] != updateCount) {
+                    evaluatedIn[index] = updateCount;
+                    evaluate(index);
+                }
+            }
+        }
+    }
+
+    private void evaluate(int index) {
+        Achievement achievement = achievements.get(index);
+        if (achievement.isUnlocked() || failed[index]) {
+            return;
+        }
+
+        switch (achievement.getRule().evaluate(values)) {
+            case UNLOCKED -> manager.unlockAchievement(achievement);
+            case FAILED -> failed[index] = true;
+            case NONE -> {
+            }
+        }
+    }
+}
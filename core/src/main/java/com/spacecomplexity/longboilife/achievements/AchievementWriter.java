@@ -0,0 +1,138 @@
+package com.spacecomplexity.longboilife.achievements;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.spacecomplexity.longboilife.game.utils.FileUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Writes achievements to a file on a background thread, so saving never blocks the game.
+ * <p>
+ * The file only holds the progress of each achievement, their definitions always come from the game.
+ * <p>
+ * Only the latest snapshot is kept, so if more achievements are saved while a write is in progress they are all
+ * written together once it finishes. Each write goes to a temporary file which then replaces the file, so the file is
+ * never left half written.
+ */
+class AchievementWriter {
+    private final FileHandle file;
+
+    private final Object lock = new Object();
+    // The latest snapshot which has not been written yet, or null if there is none
+    private Achievement[] pending;
+    private boolean writing = false;
+    // The writer thread, or null if it has not been started or has stopped
+    private Thread thread;
+
+    /**
+     * Create a writer for a file, the thread is started the first time something is saved.
+     *
+     * @param file the file to write to.
+     */
+    AchievementWriter(FileHandle file) {
+        this.file = file;
+    }
+
+    /**
+     * Save a snapshot of the achievements, replacing any snapshot which has not been written yet.
+     * <p>
+     * This returns immediately, the snapshot is written later on the writer thread.
+     *
+     * @param snapshot copies of the achievements, which must not be changed after this is called.
+     */
+    void save(Achievement[] snapshot) {
+        synchronized (lock) {
+            pending = snapshot;
+            if (thread == null) {
+                thread = new Thread(this::run, "AchievementWriter");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Wait for every saved snapshot to be written, such as before the game closes.
+     * <p>
+     * If the writer thread has stopped, any snapshot it did not write is not waited for.
+     */
+    void flush() {
+        synchronized (lock) {
+            while ((pending != null && thread != null) || writing) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                Achievement[] snapshot;
+                synchronized (lock) {
+                    while (pending == null) {
+                        try {
+                            lock.wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    snapshot = pending;
+                    pending = null;
+                    writing = true;
+                }
+
+                try {
+                    write(snapshot);
+                } finally {
+                    synchronized (lock) {
+                        writing = false;
+                        lock.notifyAll();
+                    }
+                }
+            }
+        } finally {
+            // Let the next save start a new thread, and stop flush waiting for this one
+            synchronized (lock) {
+                thread = null;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void write(Achievement[] snapshot) {
+        try {
+            FileUtils.writeAtomically(file, toJson(snapshot));
+        } catch (IOException | RuntimeException e) {
+            // Any failure only loses this snapshot, the thread carries on writing later ones
+            Gdx.app.error("AchievementWriter", "Error saving achievements", e);
+        }
+    }
+
+    private static String toJson(Achievement[] snapshot) throws IOException {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new JsonWriter(out);
+        writer.setOutputType(JsonWriter.OutputType.json);
+
+        writer.array();
+        for (Achievement achievement : snapshot) {
+            writer.object()
+                .set("id", achievement.getId())
+                .set("title", achievement.getTitle())
+                .set("unlocked", achievement.isUnlocked())
+                .pop();
+        }
+        writer.pop();
+        writer.close();
+
+        return out.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.spacecomplexity.longboilife.achievements;
+
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A value from the state of a game which achievements can depend on.
+ * <p>
+ * Each metric is read straight from counters the game keeps up to date, so reading one never scans the world. In
+ * achievement definitions metrics are named in lower case, such as {@code food_buildings}.
+ */
+public enum Metric {
+    MONEY(gameState -> gameState.money),
+    TOTAL_INCOME(GameState::getTotalIncome),
+    TOTAL_EXPENSES(GameState::getTotalExpenses),
+    SATISFACTION(gameState -> gameState.satisfactionScore),
+    EVENTS(GameState::getTotalEvents),
+    // Every building except pathways
+    BUILDINGS(gameState -> gameState.getTotalBuildingCount() - gameState.getCategoryCount(BuildingCategory.PATHWAY)),
+    PATHWAYS(gameState -> gameState.getCategoryCount(BuildingCategory.PATHWAY)),
+    ACCOMMODATION_BUILDINGS(gameState -> gameState.getCategoryCount(BuildingCategory.ACCOMMODATION)),
+    EDUCATIONAL_BUILDINGS(gameState -> gameState.getCategoryCount(BuildingCategory.EDUCATIONAL)),
+    FOOD_BUILDINGS(gameState -> gameState.getCategoryCount(BuildingCategory.FOOD)),
+    RECREATIONAL_BUILDINGS(gameState -> gameState.getCategoryCount(BuildingCategory.RECREATIONAL)),
+    // 1 once the game has ended, otherwise 0
+    GAME_OVER(gameState -> gameState.gameOver ? 1 : 0),
+    ;
+
+    private final ToDoubleFunction<GameState> reader;
+
+    Metric(ToDoubleFunction<GameState> reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the current value of this metric.
+     *
+     * @param gameState the state of the game.
+     * @return the value.
+     */
+    public double read(GameState gameState) {
+        return reader.applyAsDouble(gameState);
+    }
+}
@@ -5,14 +5,15 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 public class Notification extends UIElement {
     private static final float DISPLAY_DURATION = 3f; // Show for 3 seconds
     private static final float FADE_DURATION = 0.5f;  // Fade in/out over 0.5 seconds
 
-    public Notification(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public Notification(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
         
         table.setBackground(skin.getDrawable("panel1"));
         table.setVisible(false);
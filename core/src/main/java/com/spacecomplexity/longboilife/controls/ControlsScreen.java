@@ -18,9 +18,9 @@ import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.spacecomplexity.longboilife.Main;
 import com.spacecomplexity.longboilife.MainInputManager;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.globals.Window;
 import com.badlogic.gdx.Input.Keys;
-import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.badlogic.gdx.ScreenAdapter;
 
 /**
@@ -53,6 +53,7 @@ public class ControlsScreen extends ScreenAdapter {
         {"Open Menu", "ESC"},
         {"Toggle Fullscreen", "F11"},
         {"Pause Game", "Space"},
+        {"Change Game Speed", "Tab"},
         {"Place Multiple Buildings", "SHIFT"}
     };
 
@@ -65,36 +66,21 @@ public class ControlsScreen extends ScreenAdapter {
         stage = new Stage(viewport);
         batch = new SpriteBatch();
 
-        // Load and compile shaders
-        ShaderProgram.pedantic = false;
-        try {
-            String vertexShader = Gdx.files.internal("shaders/blur.vert").readString();
-            String fragmentShader = Gdx.files.internal("shaders/blur.frag").readString();
-            
-            if (vertexShader == null || fragmentShader == null) {
-                throw new RuntimeException("Failed to load shader files");
-            }
-            
-            blurShader = new ShaderProgram(vertexShader, fragmentShader);
-            
-            if (!blurShader.isCompiled()) {
-                Gdx.app.error("Shader", "Shader compilation failed:\n" + blurShader.getLog());
-                throw new RuntimeException("Shader compilation failed: " + blurShader.getLog());
-            }
-        } catch (Exception e) {
-            Gdx.app.error("Shader", "Failed to load shaders: " + e.getMessage());
-            throw new RuntimeException("Failed to load shaders", e);
+        // The blur shader is owned by Assets, so it is only compiled once
+        blurShader = Assets.get(Assets.BLUR_SHADER, ShaderProgram.class);
+        if (!blurShader.isCompiled()) {
+            Gdx.app.error("Shader", "Shader compilation failed:\n" + blurShader.getLog());
+            throw new RuntimeException("Shader compilation failed: " + blurShader.getLog());
         }
 
         // Load background textures
-        backgroundTextures = new Texture[]{
-            new Texture(Gdx.files.internal("ui/Example1.png")),
-            new Texture(Gdx.files.internal("ui/Example2.png")),
-            new Texture(Gdx.files.internal("ui/Example3.png"))
-        };
+        backgroundTextures = new Texture[Assets.BACKGROUNDS.length];
+        for (int i = 0; i < backgroundTextures.length; i++) {
+            backgroundTextures[i] = Assets.getTexture(Assets.BACKGROUNDS[i]);
+        }
 
         // Load UI skin for buttons
-        skin = new Skin(Gdx.files.internal("ui/skin/uiskin.json"));
+        skin = Assets.getSkin();
     }
 
     @Override
@@ -104,12 +90,12 @@ public class ControlsScreen extends ScreenAdapter {
 
         // Create a custom input processor that handles ESC key
         InputMultiplexer inputMultiplexer = new InputMultiplexer(
-            new MainInputManager() {
+            new MainInputManager(game.getGameContext()) {
                 @Override
                 public boolean keyDown(int keycode) {
                     if (keycode == Keys.ESCAPE) {
                         // If we came from game screen and the game is over, go to menu
-                        if (previousScreen == Main.ScreenType.GAME && GameState.getState().gameOver) {
+                        if (previousScreen == Main.ScreenType.GAME && game.getGameContext().getGameState().gameOver) {
                             game.switchScreen(Main.ScreenType.MENU);
                         } else {
                             // Otherwise, go back to previous screen
@@ -183,7 +169,7 @@ public class ControlsScreen extends ScreenAdapter {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 // If we came from game screen and the game is over, go to menu
-                if (previousScreen == Main.ScreenType.GAME && GameState.getState().gameOver) {
+                if (previousScreen == Main.ScreenType.GAME && game.getGameContext().getGameState().gameOver) {
                     game.switchScreen(Main.ScreenType.MENU);
                 } else {
                     // Otherwise, go back to previous screen
@@ -256,28 +242,14 @@ public class ControlsScreen extends ScreenAdapter {
 
     @Override
     public void dispose() {
+        // The skin, shader and backgrounds are owned by Assets
         if (stage != null) {
             stage.dispose();
             stage = null;
         }
-        if (skin != null) {
-            skin.dispose();
-            skin = null;
-        }
-        if (backgroundTextures != null) {
-            for (Texture texture : backgroundTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
-            backgroundTextures = null;
-        }
         if (batch != null) {
             batch.dispose();
             batch = null;
         }
-        if (blurShader != null) {
-            blurShader.dispose();
-        }
     }
 }
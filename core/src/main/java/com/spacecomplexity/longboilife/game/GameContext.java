@@ -0,0 +1,135 @@
+package com.spacecomplexity.longboilife.game;
+
+import com.spacecomplexity.longboilife.game.events.EventBus;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+import com.spacecomplexity.longboilife.game.utils.CameraManager;
+import com.spacecomplexity.longboilife.game.utils.EventHandler;
+import com.spacecomplexity.longboilife.game.utils.Timer;
+import com.spacecomplexity.longboilife.game.world.World;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Everything belonging to a single game.
+ * <p>
+ * Rather than being accessed globally, the context is passed to anything which needs it. This means any number of
+ * games can exist at once, such as simulations running in parallel on separate threads, each with their own context.
+ * <p>
+ * Every random decision in a game comes from generators split from a single seeded {@link SplittableRandom}, so a
+ * game started with the same seed and given the same player commands will always play out the same way.
+ */
+public class GameContext {
+    private final GameState gameState;
+    private final EventHandler eventHandler;
+    private final EventBus eventBus;
+    private final Timer timer;
+    private final long seed;
+    private final SplittableRandom rootRng;
+    private final long eventSeed;
+
+    private World world;
+    private Simulation simulation;
+    private CameraManager camera;
+
+    /**
+     * Create a context for a new game with a random seed.
+     * <p>
+     * The seed chosen can be retrieved with {@link GameContext#getSeed()} so the game can be replayed.
+     */
+    public GameContext() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Create a context for a new game.
+     *
+     * @param seed the seed all random decisions in the game are made from.
+     */
+    public GameContext(long seed) {
+        this.seed = seed;
+        rootRng = new SplittableRandom(seed);
+        eventSeed = rootRng.nextLong();
+
+        gameState = new GameState();
+        eventHandler = new EventHandler();
+        eventBus = new EventBus();
+        timer = new Timer();
+    }
+
+    /**
+     * Set the world being played, creating a new {@link Simulation} of it.
+     * <p>
+     * The world should have been created with this context's {@link GameState}.
+     *
+     * @param world the world being played.
+     */
+    public void setWorld(World world) {
+        this.world = world;
+        simulation = new Simulation(this);
+    }
+
+    public void setCamera(CameraManager camera) {
+        this.camera = camera;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public EventHandler getEventHandler() {
+        return eventHandler;
+    }
+
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public Timer getTimer() {
+        return timer;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the seed the simulation's game events are generated from.
+     *
+     * @return the seed for game events.
+     */
+    public long getEventSeed() {
+        return eventSeed;
+    }
+
+    /**
+     * Split a new independent random number generator from the game's seed, such as for a {@link
+     * com.spacecomplexity.longboilife.game.simulation.BuildStrategy}.
+     * <p>
+     * Each call returns a different generator, so for a game to be repeatable generators must be split in the same
+     * order each time.
+     *
+     * @return a new random number generator.
+     */
+    public RandomGenerator splitRng() {
+        return rootRng.split();
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Get the camera used to render the game.
+     *
+     * @return the camera, or null if the game is not being rendered.
+     */
+    public CameraManager getCamera() {
+        return camera;
+    }
+}
@@ -12,36 +12,56 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.spacecomplexity.longboilife.Main;
 import com.spacecomplexity.longboilife.MainInputManager;
-import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.achievements.AchievementManager;
+import com.spacecomplexity.longboilife.game.events.EventBus;
+import com.spacecomplexity.longboilife.game.events.GameEnded;
+import com.spacecomplexity.longboilife.game.events.GameEventTriggered;
 import com.spacecomplexity.longboilife.game.globals.Constants;
 import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.globals.MainCamera;
-import com.spacecomplexity.longboilife.game.globals.MainTimer;
 import com.spacecomplexity.longboilife.game.globals.Window;
+import com.spacecomplexity.longboilife.game.replay.Replay;
+import com.spacecomplexity.longboilife.game.replay.ReplayRecorder;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+import com.spacecomplexity.longboilife.game.simulation.SimulationClock;
 import com.spacecomplexity.longboilife.game.tile.InvalidSaveMapException;
 import com.spacecomplexity.longboilife.game.ui.UIManager;
 import com.spacecomplexity.longboilife.game.utils.*;
 import com.spacecomplexity.longboilife.game.world.World;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 
 
 /**
  * Main class to control the game logic.
  */
 public class GameScreen implements Screen {
+    /**
+     * The internal path of the map every game is played on.
+     */
+    public static final String MAP_FILE = "map.json";
+
+    /**
+     * The local path the replay of the last game played is recorded to.
+     */
+    public static final String REPLAY_FILE = "replays/last.replay";
+
     private final Main game;
 
     private SpriteBatch batch;
     private ShapeRenderer shapeRenderer;
     private UIManager ui;
     private InputManager inputManager;
+    private InputMultiplexer inputMultiplexer;
 
     private Viewport viewport;
 
+    private GameContext context;
+    private GameState gameState;
     private World world;
 
-    private final GameState gameState = GameState.getState();
+    private SimulationClock clock;
+    private ReplayRecorder recorder;
 
     public GameScreen(Main game) {
         this.game = game;
@@ -53,57 +73,134 @@ public class GameScreen implements Screen {
 
     
     public void newGame() {
-        gameState.reset();
+        // Keep the replay of any unfinished previous game
+        closeReplay(null);
+
+        // Everything for the game is held in a new context
+        context = new GameContext();
+        gameState = context.getGameState();
 
         // Creates a new World object from "map.json" file
         try {
-            world = new World(Gdx.files.internal("map.json"));
+            world = new World(Gdx.files.internal(MAP_FILE), gameState);
         } catch (FileNotFoundException | InvalidSaveMapException e) {
             throw new RuntimeException(e);
         }
 
-        // Create a new timer for 5 minutes
-        MainTimer.getTimerManager().getTimer().setTimer(Constants.GAME_LENGTH * 1000);
-        MainTimer.getTimerManager().getTimer().setEvent(() -> {
-            EventHandler.getEventHandler().callEvent(Events.Event.GAME_END);
+        // Create the simulation of this world and start the game timer
+        context.setWorld(world);
+        Simulation simulation = context.getSimulation();
+
+        // Subscribe the UI and achievements to what happens in the game
+        // Achievements depend on the satisfaction score, so they are tracked after the simulation is created
+        // They are subscribed first so they are checked when the game ends before the UI changes
+        AchievementManager.getInstance().track(context);
+        EventBus eventBus = context.getEventBus();
+        eventBus.subscribe(GameEventTriggered.TYPE, (event) -> {
+            // Show event popup
+            ui.getEventPopup().showEvent(event.message());
         });
-        
+        eventBus.subscribe(GameEnded.TYPE, (event) -> {
+            // Log total events that occurred
+            System.out.println("Total events during game: " + gameState.getTotalEvents());
+
+            // Finish the replay before anything else can change the game
+            closeReplay(Replay.Outcome.of(context));
+
+            // Hide game UI and show end UI
+            context.getEventHandler().callEvent(Events.Event.GAME_END);
+        });
+
+        // Record the game so it can be replayed, replacing the replay of the last game
+        try {
+            recorder = new ReplayRecorder(Gdx.files.local(REPLAY_FILE), context.getSeed(), MAP_FILE,
+                SimulationClock.FIXED_STEP, ReplayRecorder.DEFAULT_KEYFRAME_INTERVAL);
+            simulation.setRecorder(recorder);
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Error creating replay", e);
+        }
+
+        simulation.start();
+
+        // Drive the simulation from real time
+        clock = new SimulationClock(simulation);
+
+        createView();
         resumeGame();
     }
     
-    public void resumeGame() {
+    /**
+     * Stop recording the replay of the current game, if it is being recorded.
+     *
+     * @param outcome the outcome of the game, or null if the game did not finish.
+     */
+    private void closeReplay(Replay.Outcome outcome) {
+        if (recorder == null) {
+            return;
+        }
+
+        context.getSimulation().setRecorder(null);
+        try {
+            recorder.close(outcome);
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Error recording replay", e);
+        }
+        recorder = null;
+    }
+    
+    /**
+     * Create the camera, UI and input handling of the current game, replacing those of any previous game.
+     * <p>
+     * These are kept while other screens are shown, so they are only created once each game.
+     */
+    private void createView() {
+        if (ui != null) {
+            ui.dispose();
+        }
+
         // Create an input multiplexer to handle input from all sources
-        InputMultiplexer inputMultiplexer = new InputMultiplexer(new MainInputManager());
+        inputMultiplexer = new InputMultiplexer(new MainInputManager(context));
 
         // Initialises camera with CameraManager
-        CameraManager camera = new CameraManager(world);
-        MainCamera.setMainCamera(camera);
+        CameraManager camera = new CameraManager(world, gameState);
+        context.setCamera(camera);
 
         // Initialise viewport for rescaling
-        viewport = new ScreenViewport(MainCamera.camera().getCamera());
+        viewport = new ScreenViewport(camera.getCamera());
 
         // Calculates the scaling factor based initial screen height
-        GameUtils.calculateScaling();
+        GameUtils.calculateScaling(gameState);
 
         // Initialise UI elements with UIManager
-        ui = new UIManager(inputMultiplexer);
+        ui = new UIManager(inputMultiplexer, context);
 
         // Position camera in the center of the world map
-        MainCamera.camera().position.set(new Vector3(
+        camera.position.set(new Vector3(
                 world.getWidth() * Constants.TILE_SIZE * gameState.scaleFactor / 2,
                 world.getHeight() * Constants.TILE_SIZE * gameState.scaleFactor / 2,
                 0));
 
         // Set up an InputManager to handle user inputs
-        inputManager = new InputManager(inputMultiplexer, world);
-        // Set the Gdx input processor to handle all our input processes
-        Gdx.input.setInputProcessor(inputMultiplexer);
+        inputManager = new InputManager(inputMultiplexer, context);
 
         // Initialise the events performed from this script.
         initialiseEvents();
-        
-        gameState.paused = false;
-        MainTimer.getTimerManager().getTimer().resumeTimer();
+    }
+
+    public void resumeGame() {
+        // Set the Gdx input processor to handle all our input processes, as it is cleared when the screen is hidden
+        Gdx.input.setInputProcessor(inputMultiplexer);
+
+        // Unpause the game, keeping the pause button in step with it until the game ends and the game UI is removed
+        if (gameState.gameOver) {
+            gameState.paused = false;
+            context.getTimer().resumeTimer();
+        } else {
+            context.getEventHandler().callEvent(Events.Event.RESUME_GAME);
+        }
+
+        // Don't simulate time spent away from the game
+        clock.reset();
     }
     
     /**
@@ -112,7 +209,7 @@ public class GameScreen implements Screen {
     @Override
     public void show() {
         // Creates a new game if the game has not started yet
-        if (!gameState.active) {
+        if (context == null || !gameState.active) {
             newGame();
         }
         // Otherwise resume the current game
@@ -127,8 +224,7 @@ public class GameScreen implements Screen {
      * Initialise events for the event handler.
      */
     private void initialiseEvents() {
-        EventHandler eventHandler = EventHandler.getEventHandler();
-        eventHandler.initialiseEvents(game, world);
+        context.getEventHandler().initialiseEvents(game, context);
     }
 
     /**
@@ -137,11 +233,15 @@ public class GameScreen implements Screen {
      */
     @Override
     public void render(float delta) {
+        // Handle anything the player did since the last frame before any ticks are run, as replays do
+        // This is also needed while the game is paused, as no ticks are run then
+        // Nothing the player does after the game has ended should change its result
         if (!gameState.gameOver) {
-            MainTimer.getTimerManager().getTimer().poll();
+            context.getEventBus().drain();
         }
-        
-        MainTimer.getTimerManager().getTimer().pollGameEvents();
+
+        // Advance the game simulation by the time passed since the last frame, at the current speed
+        clock.advance();
         
         // Call to handles any constant input
         inputManager.handleContinuousInput();
@@ -151,58 +251,37 @@ public class GameScreen implements Screen {
 
         // Applies viewport transformations and updates camera ready for rendering
         viewport.apply();
-        MainCamera.camera().update();
+        context.getCamera().update();
         // Update the SpriteBatch and ShapeRenderer to match the updates camera
-        batch.setProjectionMatrix(MainCamera.camera().getCombinedMatrix());
-        shapeRenderer.setProjectionMatrix(MainCamera.camera().getCombinedMatrix());
+        batch.setProjectionMatrix(context.getCamera().getCombinedMatrix());
+        shapeRenderer.setProjectionMatrix(context.getCamera().getCombinedMatrix());
 
         // Darkened the world when paused
         Color worldTint = gameState.paused ? Color.LIGHT_GRAY : Color.WHITE;
 
         // Draw the world tiles
-        RenderUtils.drawWorld(batch, world, worldTint);
+        RenderUtils.drawWorld(batch, context, worldTint);
         // Draw the worlds buildings
-        RenderUtils.drawBuildings(batch, world, worldTint);
+        RenderUtils.drawBuildings(batch, context, worldTint);
         // If there is a building to be placed draw it as a ghost building
         if (gameState.placingBuilding != null) {
-            RenderUtils.drawPlacingBuilding(batch, world, gameState.placingBuilding, new Color(1f, 1f, 1f, 0.75f), new Color(1f, 0f, 0f, 0.75f));
+            RenderUtils.drawPlacingBuilding(batch, context, gameState.placingBuilding, new Color(1f, 1f, 1f, 0.75f), new Color(1f, 0f, 0f, 0.75f));
         }
         // If we are placing a building or there is a building selected then draw gridlines
         if (gameState.placingBuilding != null || gameState.selectedBuilding != null) {
-            RenderUtils.drawWorldGridlines(shapeRenderer, world, Color.BLACK);
+            RenderUtils.drawWorldGridlines(shapeRenderer, context, Color.BLACK);
         }
         // If there is a building selected then outline it
         if (gameState.selectedBuilding != null) {
-            RenderUtils.outlineBuilding(shapeRenderer, gameState.selectedBuilding, Color.RED, 2);
+            RenderUtils.outlineBuilding(shapeRenderer, context, gameState.selectedBuilding, Color.RED, 2);
         }
         // If there is a moving selected then outline where it was previously
         if (gameState.movingBuilding != null) {
-            RenderUtils.outlineBuilding(shapeRenderer, gameState.movingBuilding, Color.PURPLE, 2);
+            RenderUtils.outlineBuilding(shapeRenderer, context, gameState.movingBuilding, Color.PURPLE, 2);
         }
 
         // Render the UI
         ui.render();
-
-        if (!gameState.paused && gameState.active) {
-            // Update profit timer
-            gameState.updateProfitTimer(delta);
-            
-            // Check if 5 seconds have passed
-            if (gameState.getProfitTimer() >= GameState.PROFIT_INTERVAL) {
-                // Calculate profit from all buildings
-                float totalProfit = 0;
-                for (BuildingType type : BuildingType.values()) {
-                    int count = gameState.getBuildingCount(type);
-                    totalProfit += count * type.getProfitPerTick();
-                }
-                
-                // Add profit to money
-                gameState.money += totalProfit;
-                
-                // Reset timer
-                gameState.updateProfitTimer(-GameState.PROFIT_INTERVAL);
-            }
-        }
     }
 
     /**
@@ -221,7 +300,7 @@ public class GameScreen implements Screen {
         viewport.update(width, height, false);
 
         // Recalculate scaling factors with new height
-        GameUtils.calculateScaling();
+        GameUtils.calculateScaling(gameState);
 
         // Rescale UI
         ui.resize(width, height);
@@ -237,12 +316,8 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
-        // Ensure UI is disposed before hiding screen
-        if (ui != null) {
-            ui.dispose();
-        }
-        
         // Clear input processor to prevent ghost inputs
+        // The UI is kept, so the game can be resumed without creating it again
         Gdx.input.setInputProcessor(null);
     }
 
@@ -252,6 +327,9 @@ public class GameScreen implements Screen {
      */
     @Override
     public void dispose() {
+        // Keep the replay of an unfinished game
+        closeReplay(null);
+
         // Dispose of all resources in reverse order of creation
         if (ui != null) {
             ui.dispose();
@@ -282,18 +360,27 @@ public class GameScreen implements Screen {
 
         // Applies viewport transformations and updates camera ready for rendering
         viewport.apply();
-        MainCamera.camera().update();
+        context.getCamera().update();
         // Update the SpriteBatch and ShapeRenderer to match the updates camera
-        batch.setProjectionMatrix(MainCamera.camera().getCombinedMatrix());
-        shapeRenderer.setProjectionMatrix(MainCamera.camera().getCombinedMatrix());
+        batch.setProjectionMatrix(context.getCamera().getCombinedMatrix());
+        shapeRenderer.setProjectionMatrix(context.getCamera().getCombinedMatrix());
 
         // Darkened the world when paused
         Color worldTint = gameState.paused ? Color.LIGHT_GRAY : Color.WHITE;
 
         // Draw the world tiles
-        RenderUtils.drawWorld(batch, world, worldTint);
+        RenderUtils.drawWorld(batch, context, worldTint);
         // Draw the worlds buildings
-        RenderUtils.drawBuildings(batch, world, worldTint);
+        RenderUtils.drawBuildings(batch, context, worldTint);
+    }
+
+    /**
+     * Get the context of the current game.
+     *
+     * @return the context of the current game, or null if a game has not been started.
+     */
+    public GameContext getContext() {
+        return context;
     }
 
     public UIManager getUIManager() {
@@ -2,14 +2,25 @@ package com.spacecomplexity.longboilife.game.building;
 
 import com.spacecomplexity.longboilife.game.utils.Vector2Int;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
 /**
  * Represents a building in the game.
  */
 public class Building {
     private final BuildingType type;
     private Vector2Int position;
-    private double satisfactionModifier;
-    private String satisfactionInfo;
+    private int id = BuildingModifiers.NO_ID;
+
+    // The satisfaction modifiers in the order they were applied, and their sources to quickly check for duplicates
+    // Most buildings never have a modifier, so these are only created when the first is added
+    private List<SatisfactionModifier> satisfactionModifiers = Collections.emptyList();
+    private EnumSet<SatisfactionModifier.Source> satisfactionSources;
+    // The description of the modifiers, built when first needed and kept until they change
+    private String satisfactionInfo = "";
 
     /**
      * Constructs a building instance given the specific type.
@@ -20,8 +31,6 @@ public class Building {
     public Building(BuildingType type, Vector2Int position) {
         this.type = type;
         this.position = position;
-        this.satisfactionModifier = 0;
-        this.satisfactionInfo = "";
     }
 
     public BuildingType getType() {
@@ -36,19 +45,109 @@ public class Building {
         this.position = position;
     }
     
-    public double getSatisfactionModifier() {
-        return satisfactionModifier;
+    /**
+     * Get the id of this building, which indexes its modifiers in the world's {@link BuildingModifiers}.
+     *
+     * @return the id, or {@link BuildingModifiers#NO_ID} if it has not been built.
+     */
+    public int getId() {
+        return id;
     }
     
-    public void setSatisfactionModifier(double satisfactionModifier) {
-        this.satisfactionModifier = satisfactionModifier;
+    /**
+     * Set the id of this building, this is done by the world when it is first built.
+     *
+     * @param id the id.
+     */
+    public void setId(int id) {
+        this.id = id;
     }
     
-    public String getSatisfactionInfo() {
-        return satisfactionInfo;
+    /**
+     * Add a satisfaction modifier to this building, unless it already has one from the same source.
+     * <p>
+     * This does not change the satisfaction of the building, the modifier's value should also be added to the
+     * world's {@link BuildingModifiers} if this returns true.
+     *
+     * @param modifier the modifier to add.
+     * @return whether the modifier was added.
+     */
+    public boolean addSatisfactionModifier(SatisfactionModifier modifier) {
+        if (satisfactionSources == null) {
+            satisfactionModifiers = new ArrayList<>(2);
+            satisfactionSources = EnumSet.noneOf(SatisfactionModifier.Source.class);
+        }
+        if (!satisfactionSources.add(modifier.source())) {
+            return false;
+        }
+
+        satisfactionModifiers.add(modifier);
+        satisfactionInfo = null;
+        return true;
     }
     
-    public void setSatisfactionInfo(String satisfactionInfo) {
-        this.satisfactionInfo = satisfactionInfo;
+    /**
+     * Remove a satisfaction modifier from this building.
+     * <p>
+     * This does not change the satisfaction of the building, the world's {@link BuildingModifiers} should also be
+     * updated if this returns true.
+     *
+     * @param source    the source of the modifier.
+     * @param startTime the time the modifier was applied, so a later modifier from the same source is not removed.
+     * @return whether the modifier was removed.
+     */
+    public boolean removeSatisfactionModifier(SatisfactionModifier.Source source, double startTime) {
+        if (!hasSatisfactionModifier(source)) {
+            return false;
+        }
+
+        for (int i = 0; i < satisfactionModifiers.size(); i++) {
+            SatisfactionModifier modifier = satisfactionModifiers.get(i);
+            if (modifier.source() == source && modifier.startTime() == startTime) {
+                satisfactionModifiers.remove(i);
+                satisfactionSources.remove(source);
+                satisfactionInfo = null;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Check if this building has a satisfaction modifier from a source.
+     *
+     * @param source the source of the modifier.
+     * @return whether there is a modifier from this source.
+     */
+    public boolean hasSatisfactionModifier(SatisfactionModifier.Source source) {
+        return satisfactionSources != null && satisfactionSources.contains(source);
+    }
+    
+    /**
+     * Get the satisfaction modifiers of this building.
+     *
+     * @return the modifiers in the order they were added, this cannot be modified.
+     */
+    public List<SatisfactionModifier> getSatisfactionModifiers() {
+        return Collections.unmodifiableList(satisfactionModifiers);
+    }
+    
+    /**
+     * Get a description of the satisfaction modifiers of this building, with one modifier on each line.
+     *
+     * @return the description, or an empty string if there are no modifiers.
+     */
+    public String getSatisfactionInfo() {
+        if (satisfactionInfo == null) {
+            StringBuilder info = new StringBuilder();
+            for (SatisfactionModifier modifier : satisfactionModifiers) {
+                if (info.length() > 0) {
+                    info.append('\n');
+                }
+                info.append(modifier.describe());
+            }
+            satisfactionInfo = info.toString();
+        }
+        return satisfactionInfo;
     }
 }
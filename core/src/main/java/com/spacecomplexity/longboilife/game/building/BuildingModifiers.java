@@ -0,0 +1,199 @@
+package com.spacecomplexity.longboilife.game.building;
+
+import java.util.Arrays;
+
+/**
+ * The modifiers game events have applied to the buildings of a world.
+ * <p>
+ * Modifiers are stored in parallel arrays indexed by {@link Building#getId()}, so passes over every building (such as
+ * adding profit) read them without following references. Ids are assigned by the world when a building is first
+ * built, and are kept when a building is moved.
+ * <p>
+ * Each building has a satisfaction delta, which is the total of its satisfaction modifiers (as a percentage) while they
+ * last, and at most one income modifier, which multiplies the building's profit until it expires. The profit of each building in
+ * the world is also stored, so the effect of income modifiers is found without looking at the buildings.
+ */
+public class BuildingModifiers {
+    /**
+     * The id of a building which has not been built in a world.
+     */
+    public static final int NO_ID = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] satisfactionDeltas = new double[INITIAL_CAPACITY];
+    private double[] incomeMultipliers = new double[INITIAL_CAPACITY];
+    // The time each income modifier expires (in seconds since the game started), or NaN if there is none
+    private double[] incomeExpiries = new double[INITIAL_CAPACITY];
+    // The profit of each building, or 0 if it is not in the world
+    private float[] baseProfits = new float[INITIAL_CAPACITY];
+
+    private int size = 0;
+    private int incomeModifierCount = 0;
+
+    /**
+     * Assign the next id, with no modifiers.
+     *
+     * @return the id.
+     */
+    public int allocate() {
+        if (size == incomeMultipliers.length) {
+            int capacity = size * 2;
+            satisfactionDeltas = Arrays.copyOf(satisfactionDeltas, capacity);
+            incomeMultipliers = Arrays.copyOf(incomeMultipliers, capacity);
+            incomeExpiries = Arrays.copyOf(incomeExpiries, capacity);
+            baseProfits = Arrays.copyOf(baseProfits, capacity);
+        }
+
+        satisfactionDeltas[size] = 0;
+        incomeMultipliers[size] = 1;
+        incomeExpiries[size] = Double.NaN;
+        baseProfits[size] = 0;
+        return size++;
+    }
+
+    /**
+     * Remove every modifier and forget every id, so the next id assigned is 0.
+     * <p>
+     * Any building which has been assigned an id must not be used with this again.
+     */
+    public void clear() {
+        size = 0;
+        incomeModifierCount = 0;
+    }
+
+    /**
+     * Get the total of the satisfaction modifiers of a building.
+     *
+     * @param id the id of the building.
+     * @return the satisfaction delta (as a percentage).
+     */
+    public double getSatisfactionDelta(int id) {
+        return satisfactionDeltas[checkId(id)];
+    }
+
+    /**
+     * Add a satisfaction modifier to a building.
+     *
+     * @param id    the id of the building.
+     * @param delta the satisfaction modifier (as a percentage).
+     */
+    public void addSatisfactionDelta(int id, double delta) {
+        satisfactionDeltas[checkId(id)] += delta;
+    }
+
+    /**
+     * Set the total of the satisfaction modifiers of a building, such as after one has expired.
+     *
+     * @param id    the id of the building.
+     * @param delta the satisfaction delta (as a percentage).
+     */
+    public void setSatisfactionDelta(int id, double delta) {
+        satisfactionDeltas[checkId(id)] = delta;
+    }
+
+    /**
+     * Get the amount the profit of a building is multiplied by.
+     *
+     * @param id the id of the building.
+     * @return the income multiplier, which is 1 if the building has no income modifier.
+     */
+    public double getIncomeMultiplier(int id) {
+        return incomeMultipliers[checkId(id)];
+    }
+
+    /**
+     * Get the time the income modifier of a building expires.
+     *
+     * @param id the id of the building.
+     * @return the time (in seconds since the game started), or {@link Double#NaN} if it has no income modifier.
+     */
+    public double getIncomeExpiry(int id) {
+        return incomeExpiries[checkId(id)];
+    }
+
+    /**
+     * Set the income modifier of a building, replacing any it already has.
+     * <p>
+     * This does not remove the modifier when it expires, this should be scheduled by the caller.
+     *
+     * @param id         the id of the building.
+     * @param multiplier the amount to multiply the building's profit by.
+     * @param expiry     the time the modifier expires (in seconds since the game started).
+     */
+    public void setIncomeModifier(int id, double multiplier, double expiry) {
+        if (Double.isNaN(incomeExpiries[checkId(id)])) {
+            incomeModifierCount++;
+        }
+        incomeMultipliers[id] = multiplier;
+        incomeExpiries[id] = expiry;
+    }
+
+    /**
+     * Remove the income modifier of a building.
+     *
+     * @param id the id of the building.
+     */
+    public void clearIncomeModifier(int id) {
+        if (!Double.isNaN(incomeExpiries[checkId(id)])) {
+            incomeModifierCount--;
+        }
+        incomeMultipliers[id] = 1;
+        incomeExpiries[id] = Double.NaN;
+    }
+
+    /**
+     * Set the profit of a building, which is done by the world when it is built or demolished.
+     *
+     * @param id     the id of the building.
+     * @param profit the profit of the building each {@link com.spacecomplexity.longboilife.game.globals.GameState#PROFIT_INTERVAL},
+     *               or 0 if it is not in the world.
+     */
+    public void setBaseProfit(int id, float profit) {
+        baseProfits[checkId(id)] = profit;
+    }
+
+    /**
+     * Calculate the change to the profit of the buildings in the world from their income modifiers.
+     *
+     * @return the total change in profit each {@link com.spacecomplexity.longboilife.game.globals.GameState#PROFIT_INTERVAL},
+     * which is 0 if no building has an income modifier.
+     */
+    public double getProfitAdjustment() {
+        // Most of the time no building has an income modifier, so there is no need to look at any
+        if (incomeModifierCount == 0) {
+            return 0;
+        }
+
+        double adjustment = 0;
+        for (int i = 0; i < size; i++) {
+            adjustment += baseProfits[i] * (incomeMultipliers[i] - 1);
+        }
+        return adjustment;
+    }
+
+    /**
+     * Get the number of ids which have been assigned.
+     *
+     * @return the number of ids, every id is less than this.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of buildings with an income modifier.
+     *
+     * @return the number of income modifiers.
+     */
+    public int getIncomeModifierCount() {
+        return incomeModifierCount;
+    }
+
+    private int checkId(int id) throws IndexOutOfBoundsException {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No building with id " + id);
+        }
+        return id;
+    }
+}
@@ -3,6 +3,8 @@ package com.spacecomplexity.longboilife.game.building;
 import java.util.stream.Stream;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.spacecomplexity.longboilife.game.globals.AssetHandle;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.utils.Vector2Int;
 
 /**
@@ -10,26 +12,26 @@ import com.spacecomplexity.longboilife.game.utils.Vector2Int;
  */
 public enum BuildingType {
     // Roads
-    ROAD("Road", new Texture("buildings/roads/straight.png"), new Vector2Int(1, 1), BuildingCategory.PATHWAY, 500, 0),
+    ROAD("Road", "buildings/roads/straight.png", new Vector2Int(1, 1), BuildingCategory.PATHWAY, 500, 0),
     // Accommodation - generates steady income from rent
-    BAND1("Band 1", new Texture("buildings/Band1.png"), new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 60000, 1000),
-    BAND2("Band 2", new Texture("buildings/Band2.png"), new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 70000, 1200),
-    BAND3("Band 3", new Texture("buildings/Band3.png"), new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 80000, 1400),
-    BAND4("Band 4", new Texture("buildings/Band4.png"), new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 90000, 1600),
+    BAND1("Band 1", "buildings/Band1.png", new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 60000, 1000),
+    BAND2("Band 2", "buildings/Band2.png", new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 70000, 1200),
+    BAND3("Band 3", "buildings/Band3.png", new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 80000, 1400),
+    BAND4("Band 4", "buildings/Band4.png", new Vector2Int(4, 5), BuildingCategory.ACCOMMODATION, 90000, 1600),
     // Recreational - moderate income from student activities
-    OUTDOORGYM("Outdoor Gym", new Texture("buildings/Outdoor Gym.png"), new Vector2Int(4, 4), BuildingCategory.RECREATIONAL, 40000, 400),
-    PARK("Park", new Texture("buildings/Park.png"), new Vector2Int(8, 4), BuildingCategory.RECREATIONAL, 25000, 200),
-    STATIONERYSTORE("Stationery Store", new Texture("buildings/Stationery Store.png"), new Vector2Int(4, 4), BuildingCategory.RECREATIONAL, 35000, 500),
+    OUTDOORGYM("Outdoor Gym", "buildings/Outdoor Gym.png", new Vector2Int(4, 4), BuildingCategory.RECREATIONAL, 40000, 400),
+    PARK("Park", "buildings/Park.png", new Vector2Int(8, 4), BuildingCategory.RECREATIONAL, 25000, 200),
+    STATIONERYSTORE("Stationery Store", "buildings/Stationery Store.png", new Vector2Int(4, 4), BuildingCategory.RECREATIONAL, 35000, 500),
     // Food - good income from food sales
-    CAFETERIA("Cafeteria", new Texture("buildings/Cafeteria.png"), new Vector2Int(6, 6), BuildingCategory.FOOD, 50000, 800),
-    FOODSTORE("Food Store", new Texture("buildings/Food Store.png"), new Vector2Int(4, 4), BuildingCategory.FOOD, 35000, 600),
+    CAFETERIA("Cafeteria", "buildings/Cafeteria.png", new Vector2Int(6, 6), BuildingCategory.FOOD, 50000, 800),
+    FOODSTORE("Food Store", "buildings/Food Store.png", new Vector2Int(4, 4), BuildingCategory.FOOD, 35000, 600),
     // Educational - high income from tuition
-    OFFICE("Study Space", new Texture("buildings/Office.png"), new Vector2Int(6, 6), BuildingCategory.EDUCATIONAL, 150000, 2000),
-    LIBRARY("Library", new Texture("buildings/Library.png"), new Vector2Int(4, 5), BuildingCategory.EDUCATIONAL, 180000, 2500),
+    OFFICE("Study Space", "buildings/Office.png", new Vector2Int(6, 6), BuildingCategory.EDUCATIONAL, 150000, 2000),
+    LIBRARY("Library", "buildings/Library.png", new Vector2Int(4, 5), BuildingCategory.EDUCATIONAL, 180000, 2500),
     ;
 
     private final String displayName;
-    private final Texture texture;
+    private final AssetHandle<Texture> texture;
     private final Vector2Int size;
     private final BuildingCategory category;
     private final float cost;
@@ -39,15 +41,15 @@ public enum BuildingType {
      * Create a {@link BuildingType} with specified attributes.
      *
      * @param displayName the name to display when selecting this building.
-     * @param texture     the texture representing the building.
+     * @param texturePath the internal path of the texture representing the building.
      * @param size        the size of the building (in tiles).
      * @param category    the category of the building.
      * @param cost        the cost to place the building.
      * @param profitPerTick the profit generated by the building per tick.
      */
-    BuildingType(String displayName, Texture texture, Vector2Int size, BuildingCategory category, float cost, float profitPerTick) {
+    BuildingType(String displayName, String texturePath, Vector2Int size, BuildingCategory category, float cost, float profitPerTick) {
         this.displayName = displayName;
-        this.texture = texture;
+        this.texture = new AssetHandle<>(texturePath, Texture.class);
         this.size = size;
         this.category = category;
         this.cost = cost;
@@ -55,7 +57,19 @@ public enum BuildingType {
     }
 
 
+    /**
+     * Get the texture representing the building.
+     * <p>
+     * The texture is only loaded on first use (unless it has already been loaded by {@link Assets}) so that building
+     * data can be used without a graphics context (such as in a headless simulation).
+     *
+     * @return the texture representing the building.
+     */
     public Texture getTexture() {
+        return texture.get();
+    }
+
+    public AssetHandle<Texture> getTextureHandle() {
         return texture;
     }
 
@@ -85,13 +99,4 @@ public enum BuildingType {
             .toArray(BuildingType[]::new);
 
     }
-
-    /**
-     * Will dispose of the all loaded assets (like textures).
-     * <p>
-     * <strong>Warning:</strong> Once disposed of no attributes will be able to be reloaded, which could lead to undefined behaviour.
-     */
-    public void dispose() {
-        texture.dispose();
-    }
 }
@@ -0,0 +1,52 @@
+package com.spacecomplexity.longboilife.game.building;
+
+/**
+ * A change to the satisfaction of a building from a game event.
+ *
+ * @param source    what caused the modifier, a building can only have one modifier from each source.
+ * @param value     the change in satisfaction (as a percentage).
+ * @param startTime the time the modifier was applied (in seconds since the game started).
+ */
+public record SatisfactionModifier(Source source, double value, double startTime) {
+    /**
+     * The game events which can modify the satisfaction of a building.
+     */
+    public enum Source {
+        HALF_PRICE("Half-price sausage rolls", 30),
+        DRUNK_STUDENTS("Drunk students", 60),
+        SNOW("Snow", 60),
+        HEAVY_SNOW("Heavy snow", 60),
+        HEATWAVE("Heatwave", 60),
+        ;
+
+        private final String displayName;
+        private final double duration;
+
+        Source(String displayName, double duration) {
+            this.displayName = displayName;
+            this.duration = duration;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * Get the length of time modifiers from this source last.
+         *
+         * @return the duration (in seconds).
+         */
+        public double getDuration() {
+            return duration;
+        }
+    }
+
+    /**
+     * Describe this modifier for the player, such as "Heatwave: -5%".
+     *
+     * @return the description.
+     */
+    public String describe() {
+        return String.format("%s: %+.0f%%", source.getDisplayName(), value);
+    }
+}
@@ -0,0 +1,13 @@
+package com.spacecomplexity.longboilife.game.events;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+
+/**
+ * Posted when the player (or a simulated player) places a building in the world.
+ *
+ * @param building the building which was placed.
+ * @param moved    whether this building was moved from elsewhere rather than newly bought.
+ */
+public record BuildingBuilt(Building building, boolean moved) {
+    public static final EventType<BuildingBuilt> TYPE = new EventType<>("BuildingBuilt");
+}
@@ -0,0 +1,31 @@
+package com.spacecomplexity.longboilife.game.events;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+
+/**
+ * Posted when a building is removed from the world during a game.
+ *
+ * @param building the building which was removed.
+ * @param reason   why the building was removed.
+ */
+public record BuildingDemolished(Building building, Reason reason) {
+    public static final EventType<BuildingDemolished> TYPE = new EventType<>("BuildingDemolished");
+
+    /**
+     * The reasons a building can be removed.
+     */
+    public enum Reason {
+        /**
+         * The player sold the building.
+         */
+        SOLD,
+        /**
+         * The player picked the building up to move it, it will be built again unless the game ends first.
+         */
+        MOVING,
+        /**
+         * The building was destroyed by a game event.
+         */
+        DESTROYED,
+    }
+}
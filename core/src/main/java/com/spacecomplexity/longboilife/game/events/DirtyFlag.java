@@ -0,0 +1,53 @@
+package com.spacecomplexity.longboilife.game.events;
+
+/**
+ * Marks that some derived state (such as the satisfaction score) needs recalculating before the end of the tick.
+ * <p>
+ * Marking a flag any number of times results in its task running once, the next time the {@link EventBus} which
+ * created it is drained. Flags are created with {@link EventBus#createDirtyFlag(String, Runnable)}.
+ */
+public final class DirtyFlag {
+    private final String name;
+    private final Runnable task;
+    private boolean dirty;
+
+    DirtyFlag(String name, Runnable task) {
+        this.name = name;
+        this.task = task;
+    }
+
+    /**
+     * Mark the derived state as out of date, so the task runs when the bus is next drained.
+     */
+    public void mark() {
+        dirty = true;
+    }
+
+    /**
+     * Check whether the task is waiting to run.
+     *
+     * @return whether the flag has been marked since the task last ran.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Run the task if the flag has been marked, clearing the flag first so the task can mark it again.
+     */
+    void runIfDirty() {
+        if (dirty) {
+            dirty = false;
+            task.run();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,232 @@
+package com.spacecomplexity.longboilife.game.events;
+
+import java.util.Arrays;
+
+/**
+ * Typed publish/subscribe bus for observing what happens in a game.
+ * <p>
+ * Any number of listeners can subscribe to each {@link EventType}, so systems such as satisfaction, achievements and
+ * the UI each react to events independently rather than being called from one place. Listeners are stored in a plain
+ * array for each event type, which is replaced whenever a listener is added or removed. This means posting an event
+ * allocates nothing, and listeners can safely subscribe or unsubscribe while an event is being dispatched.
+ * <p>
+ * Events can either be posted immediately with {@link EventBus#post(EventType, Object)}, or queued with
+ * {@link EventBus#enqueue(EventType, Object)} to be dispatched when the bus is next drained, which happens once per
+ * simulation tick. Expensive work which many events can cause (such as recalculating satisfaction) should be done by a
+ * {@link DirtyFlag} which listeners mark, so it only runs once per drain however many events caused it.
+ * <p>
+ * Each game has its own bus, owned by its {@link com.spacecomplexity.longboilife.game.GameContext}. A bus is not
+ * thread safe and should only be used from the thread running its game.
+ */
+public class EventBus {
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+
+    // Listeners for each event type, indexed by the event type's id
+    private EventListener<?>[][] listeners = new EventListener<?>[0][];
+
+    // Queued events waiting to be dispatched, in the order they were queued
+    private EventType<?>[] queuedTypes = new EventType<?>[16];
+    private Object[] queuedEvents = new Object[16];
+    private int queueSize = 0;
+
+    // Dirty flags in the order their tasks are run
+    private DirtyFlag[] dirtyFlags = new DirtyFlag[0];
+
+    private boolean draining = false;
+
+    /**
+     * Subscribe a listener to every event of a type.
+     *
+     * @param type     the type of event to listen for.
+     * @param listener the listener to call when an event of this type is posted.
+     * @param <T>      the type of the event payload.
+     */
+    public <T> void subscribe(EventType<T> type, EventListener<? super T> listener) {
+        int id = type.getId();
+
+        // Grow the table if this event type has not been seen before
+        if (id >= listeners.length) {
+            int oldLength = listeners.length;
+            listeners = Arrays.copyOf(listeners, id + 1);
+            Arrays.fill(listeners, oldLength, listeners.length, NO_LISTENERS);
+        }
+
+        EventListener<?>[] current = listeners[id];
+        EventListener<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[id] = updated;
+    }
+
+    /**
+     * Unsubscribe a previously subscribed listener.
+     * <p>
+     * If the listener was subscribed more than once only one subscription is removed.
+     *
+     * @param type     the type of event the listener was subscribed to.
+     * @param listener the listener to remove.
+     * @param <T>      the type of the event payload.
+     * @return whether the listener was subscribed.
+     */
+    public <T> boolean unsubscribe(EventType<T> type, EventListener<? super T> listener) {
+        int id = type.getId();
+        if (id >= listeners.length) {
+            return false;
+        }
+
+        EventListener<?>[] current = listeners[id];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                // Copy every other listener into a new array
+                EventListener<?>[] updated = new EventListener<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners[id] = updated;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Post an event, calling every listener subscribed to its type in the order they subscribed.
+     *
+     * @param type  the type of the event.
+     * @param event the event payload.
+     * @param <T>   the type of the event payload.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void post(EventType<T> type, T event) {
+        int id = type.getId();
+        if (id >= listeners.length) {
+            return;
+        }
+
+        // Iterate over the array as it was when posted, so changes to the subscribers take effect from the next post
+        for (EventListener<?> listener : listeners[id]) {
+            ((EventListener<T>) listener).onEvent(event);
+        }
+    }
+
+    /**
+     * Queue an event to be posted when the bus is next drained.
+     *
+     * @param type  the type of the event.
+     * @param event the event payload.
+     * @param <T>   the type of the event payload.
+     */
+    public <T> void enqueue(EventType<T> type, T event) {
+        // Grow the queue if it is full
+        if (queueSize == queuedTypes.length) {
+            queuedTypes = Arrays.copyOf(queuedTypes, queueSize * 2);
+            queuedEvents = Arrays.copyOf(queuedEvents, queueSize * 2);
+        }
+
+        queuedTypes[queueSize] = type;
+        queuedEvents[queueSize] = event;
+        queueSize++;
+    }
+
+    /**
+     * Create a flag which runs a task once per drain if it has been marked.
+     * <p>
+     * Tasks are run in the order their flags were created, after every queued event has been dispatched. If a task
+     * depends on the result of another (such as achievements depending on the satisfaction score) its flag must be
+     * created after the one it depends on.
+     *
+     * @param name the name of the flag, used for debugging.
+     * @param task the task to run when the flag has been marked.
+     * @return the new flag.
+     */
+    public DirtyFlag createDirtyFlag(String name, Runnable task) {
+        DirtyFlag flag = new DirtyFlag(name, task);
+
+        dirtyFlags = Arrays.copyOf(dirtyFlags, dirtyFlags.length + 1);
+        dirtyFlags[dirtyFlags.length - 1] = flag;
+
+        return flag;
+    }
+
+    /**
+     * Dispatch every queued event then run the tasks of any marked dirty flags.
+     * <p>
+     * Events are dispatched in the order they were queued, including any queued by listeners during the drain. Dirty
+     * flags are then run in the order they were created, so a task may mark a flag created after its own and have it
+     * run in the same drain. Calling this from a listener during a drain does nothing.
+     * <p>
+     * If a listener throws, the exception is passed on and the events which were not dispatched stay queued for the
+     * next drain.
+     */
+    public void drain() {
+        if (draining) {
+            return;
+        }
+        draining = true;
+
+        // The number of queued events which have been taken from the queue
+        int dispatched = 0;
+        try {
+            // Size is checked each iteration as listeners can queue more events
+            while (dispatched < queueSize) {
+                EventType<?> type = queuedTypes[dispatched];
+                Object event = queuedEvents[dispatched];
+
+                // Clear the references so the payloads can be garbage collected
+                queuedTypes[dispatched] = null;
+                queuedEvents[dispatched] = null;
+                dispatched++;
+
+                dispatch(type, event);
+            }
+
+            for (DirtyFlag flag : dirtyFlags) {
+                flag.runIfDirty();
+            }
+        } finally {
+            // If a listener threw, keep the events which were not dispatched at the front of the queue
+            int remaining = queueSize - dispatched;
+            System.arraycopy(queuedTypes, dispatched, queuedTypes, 0, remaining);
+            System.arraycopy(queuedEvents, dispatched, queuedEvents, 0, remaining);
+            Arrays.fill(queuedTypes, remaining, queueSize, null);
+            Arrays.fill(queuedEvents, remaining, queueSize, null);
+            queueSize = remaining;
+
+            draining = false;
+        }
+    }
+
+    /**
+     * Post a queued event, whose type was lost when it was stored in the queue.
+     *
+     * @param type  the type of the event.
+     * @param event the event payload, which must match the type.
+     * @param <T>   the type of the event payload.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void dispatch(EventType<T> type, Object event) {
+        post(type, (T) event);
+    }
+
+    /**
+     * Check if any events are queued waiting to be dispatched.
+     *
+     * @return whether there are queued events.
+     */
+    public boolean hasQueuedEvents() {
+        return queueSize > 0;
+    }
+
+    /**
+     * Check if an event type has any listeners.
+     * <p>
+     * This can be used to avoid creating a payload which nothing will observe.
+     *
+     * @param type the type of event.
+     * @return whether any listeners are subscribed to this event type.
+     */
+    public boolean hasListeners(EventType<?> type) {
+        int id = type.getId();
+        return id < listeners.length && listeners[id].length > 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.spacecomplexity.longboilife.game.events;
+
+/**
+ * Listener for events of a single {@link EventType} posted on an {@link EventBus}.
+ *
+ * @param <T> the type of the event payload.
+ */
+@FunctionalInterface
+public interface EventListener<T> {
+    /**
+     * Called when an event this listener is subscribed to is posted.
+     *
+     * @param event the event payload.
+     */
+    void onEvent(T event);
+}
@@ -0,0 +1,42 @@
+package com.spacecomplexity.longboilife.game.events;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed key for events posted on an {@link EventBus}.
+ * <p>
+ * Each type is given a unique id when created, which the bus uses to index its listener arrays, so dispatching an
+ * event is an array lookup rather than a map lookup. Types should be created once as constants, normally on the
+ * payload record itself, e.g. {@link BuildingBuilt#TYPE}.
+ *
+ * @param <T> the type of the payload carried by events of this type.
+ */
+public final class EventType<T> {
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final String name;
+    private final int id;
+
+    /**
+     * Create a new event type.
+     *
+     * @param name the name of the event type, used for debugging.
+     */
+    public EventType(String name) {
+        this.name = name;
+        this.id = nextId.getAndIncrement();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,13 @@
+package com.spacecomplexity.longboilife.game.events;
+
+/**
+ * Posted once when the game has ended.
+ */
+public record GameEnded() {
+    public static final EventType<GameEnded> TYPE = new EventType<>("GameEnded");
+
+    /**
+     * The payload has no data, so the same instance is always posted.
+     */
+    public static final GameEnded INSTANCE = new GameEnded();
+}
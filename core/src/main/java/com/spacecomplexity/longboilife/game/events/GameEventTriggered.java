@@ -0,0 +1,13 @@
+package com.spacecomplexity.longboilife.game.events;
+
+import com.spacecomplexity.longboilife.game.utils.Events.GameEvent;
+
+/**
+ * Posted when a random game event (such as a fire) has occurred and should be shown to the player.
+ *
+ * @param event   the game event which occurred.
+ * @param message the message describing what happened.
+ */
+public record GameEventTriggered(GameEvent event, String message) {
+    public static final EventType<GameEventTriggered> TYPE = new EventType<>("GameEventTriggered");
+}
@@ -0,0 +1,15 @@
+package com.spacecomplexity.longboilife.game.events;
+
+/**
+ * Posted at the end of every simulation tick, once everything which happened during the tick has been handled.
+ * <p>
+ * This is posted immediately rather than queued, and only if something is listening for it.
+ */
+public record TickEnded() {
+    public static final EventType<TickEnded> TYPE = new EventType<>("TickEnded");
+
+    /**
+     * The payload has no data, so the same instance is always posted.
+     */
+    public static final TickEnded INSTANCE = new TickEnded();
+}
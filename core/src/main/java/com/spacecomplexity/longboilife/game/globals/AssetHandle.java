@@ -0,0 +1,49 @@
+package com.spacecomplexity.longboilife.game.globals;
+
+/**
+ * A reference to an asset loaded by {@link Assets}, which is only resolved the first time it is used.
+ * <p>
+ * Handles can be created without a graphics context (such as in a headless simulation), as nothing is loaded until
+ * {@link AssetHandle#get()} is called.
+ *
+ * @param <T> the type of the asset.
+ */
+public final class AssetHandle<T> {
+    private final String path;
+    private final Class<T> type;
+    private T asset;
+
+    /**
+     * Create a handle to an asset.
+     *
+     * @param path the internal path of the asset.
+     * @param type the type of the asset.
+     */
+    public AssetHandle(String path, Class<T> type) {
+        this.path = path;
+        this.type = type;
+    }
+
+    /**
+     * Get the asset, waiting for it to load if it has not been loaded yet.
+     *
+     * @return the asset.
+     */
+    public T get() {
+        if (asset == null) {
+            asset = Assets.get(path, type);
+        }
+        return asset;
+    }
+
+    /**
+     * Queue the asset to be loaded in the background.
+     */
+    public void queue() {
+        Assets.queue(path, type);
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
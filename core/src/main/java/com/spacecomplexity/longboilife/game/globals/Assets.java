@@ -0,0 +1,215 @@
+package com.spacecomplexity.longboilife.game.globals;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.pathways.PathwayTextures;
+import com.spacecomplexity.longboilife.game.tile.TileType;
+
+/**
+ * Class to load and hold every asset used by the game.
+ * <p>
+ * Assets are loaded by a single {@link AssetManager}, so each is only loaded once however many things use it. The
+ * menu queues every asset with {@link Assets#queueAll()} and loads them in the background with
+ * {@link Assets#update()}, showing the progress. Anything requested before it has loaded is loaded immediately.
+ * <p>
+ * Fonts generated from TrueType fonts are cached on disk by a {@link FontCache}, so each is only generated the first
+ * time the game runs.
+ * <p>
+ * Assets are owned by the manager, so they must not be disposed of by anything using them.
+ */
+public final class Assets {
+    /**
+     * The skin used for all UI.
+     */
+    public static final String SKIN = "ui/skin/uiskin.json";
+
+    /**
+     * The texture atlas of the UI skin.
+     */
+    public static final String SKIN_ATLAS = "ui/skin/uiskin.atlas";
+
+    /**
+     * The backgrounds shown behind the menus, in the order they are cycled through.
+     */
+    public static final String[] BACKGROUNDS = {"ui/Example1.png", "ui/Example2.png", "ui/Example3.png"};
+
+    /**
+     * The shader used to blur the backgrounds of the menus, the fragment shader is the file with the same name ending
+     * in ".frag".
+     */
+    public static final String BLUR_SHADER = "shaders/blur.vert";
+
+    public static final String PAUSE_BUTTON = "ui/buttons/pause.png";
+    public static final String PLAY_BUTTON = "ui/buttons/play.png";
+
+    /**
+     * The TrueType font used for all UI.
+     */
+    public static final String UI_FONT = "ui/fonts/Roboto-Medium.ttf";
+
+    // The time to spend loading each call to update (in milliseconds), so loading never takes much of a frame
+    private static final int UPDATE_TIME = 10;
+
+    private static AssetManager manager;
+    private static FontCache fontCache;
+
+    private Assets() {
+    }
+
+    /**
+     * Get the asset manager, creating it on first use.
+     *
+     * @return the asset manager.
+     */
+    public static AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+            // Shaders can have uniforms which are not set
+            ShaderProgram.pedantic = false;
+        }
+        return manager;
+    }
+
+    /**
+     * Queue every asset used by the game to be loaded in the background.
+     */
+    public static void queueAll() {
+        queue(SKIN_ATLAS, TextureAtlas.class);
+        queue(SKIN, Skin.class);
+        for (String background : BACKGROUNDS) {
+            queue(background, Texture.class);
+        }
+        queue(PAUSE_BUTTON, Texture.class);
+        queue(PLAY_BUTTON, Texture.class);
+        queue(BLUR_SHADER, ShaderProgram.class);
+
+        for (BuildingType type : BuildingType.values()) {
+            type.getTextureHandle().queue();
+        }
+        for (TileType type : TileType.values()) {
+            type.getTextureHandle().queue();
+        }
+        PathwayTextures.queueTextures();
+    }
+
+    /**
+     * Queue an asset to be loaded in the background, unless it is already loaded or queued.
+     *
+     * @param path the internal path of the asset.
+     * @param type the type of the asset.
+     * @param <T>  the type of the asset.
+     */
+    public static <T> void queue(String path, Class<T> type) {
+        AssetManager manager = getManager();
+        if (!manager.contains(path, type)) {
+            manager.load(path, type);
+        }
+    }
+
+    /**
+     * Load some of the queued assets, without blocking for long.
+     *
+     * @return whether every queued asset has loaded.
+     */
+    public static boolean update() {
+        return getManager().update(UPDATE_TIME);
+    }
+
+    /**
+     * Get how much of the queued assets have loaded.
+     *
+     * @return the progress, between 0 and 1.
+     */
+    public static float getProgress() {
+        return getManager().getProgress();
+    }
+
+    /**
+     * Get an asset, loading it immediately if it has not been loaded yet.
+     *
+     * @param path the internal path of the asset.
+     * @param type the type of the asset.
+     * @param <T>  the type of the asset.
+     * @return the asset.
+     */
+    public static <T> T get(String path, Class<T> type) {
+        AssetManager manager = getManager();
+        if (!manager.isLoaded(path, type)) {
+            queue(path, type);
+            manager.finishLoadingAsset(path);
+        }
+        return manager.get(path, type);
+    }
+
+    /**
+     * Get a texture, loading it immediately if it has not been loaded yet.
+     *
+     * @param path the internal path of the texture.
+     * @return the texture.
+     */
+    public static Texture getTexture(String path) {
+        return get(path, Texture.class);
+    }
+
+    /**
+     * Get the shared UI skin.
+     * <p>
+     * This must not be changed, as it is used by every screen. Use {@link Assets#newSkin()} for a skin which can be.
+     *
+     * @return the skin.
+     */
+    public static Skin getSkin() {
+        return get(SKIN, Skin.class);
+    }
+
+    /**
+     * Create a copy of the UI skin, which can be changed without affecting any other screen.
+     * <p>
+     * The copy shares the textures of the shared skin, so creating one only reads the skin's styles. It should still be
+     * disposed of once no longer needed.
+     *
+     * @return the new skin.
+     */
+    public static Skin newSkin() {
+        Skin skin = new Skin();
+        skin.addRegions(get(SKIN_ATLAS, TextureAtlas.class));
+        skin.load(Gdx.files.internal(SKIN));
+        return skin;
+    }
+
+    /**
+     * Get a bitmap font generated from a TrueType font, generating it only if it is not already cached on disk.
+     * <p>
+     * The font is shared, so it must not be changed.
+     *
+     * @param path the internal path of the TrueType font.
+     * @param size the size of the font (in pixels).
+     * @return the font.
+     */
+    public static BitmapFont getFont(String path, int size) {
+        if (fontCache == null) {
+            fontCache = new FontCache();
+        }
+        return fontCache.get(path, size);
+    }
+
+    /**
+     * Dispose of every loaded asset, this should only be done when the game closes.
+     */
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+        if (fontCache != null) {
+            fontCache.dispose();
+            fontCache = null;
+        }
+    }
+}
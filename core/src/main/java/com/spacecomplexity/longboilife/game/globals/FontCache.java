@@ -0,0 +1,338 @@
+package com.spacecomplexity.longboilife.game.globals;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.spacecomplexity.longboilife.game.utils.FileUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Generates bitmap fonts from TrueType fonts, caching them on disk so each is only generated once.
+ * <p>
+ * The first time a font is needed at a size it is generated with FreeType, and its glyph pages (as PNGs) and metrics
+ * are written to the cache. Afterwards the font is loaded from the cache, which only reads the pages into textures.
+ * Each font is also kept in memory once loaded, so it is shared by everything using it.
+ * <p>
+ * The metrics are stored exactly as FreeType generated them, so a cached font lays out text the same as a generated
+ * one. A cached font is regenerated if the cache was written in an older format, the TrueType font has changed size,
+ * or it cannot be read.
+ */
+class FontCache {
+    // Increase this whenever the format changes, so fonts cached in the old format are regenerated
+    private static final int FORMAT_VERSION = 1;
+    private static final String DIRECTORY = "cache/fonts";
+    private static final int PAGE_SIZE = 512;
+
+    // The fonts which have been loaded, by their key
+    private final HashMap<String, BitmapFont> fonts = new HashMap<>();
+
+    /**
+     * Get a font, loading it from the cache or generating it if it has not been loaded yet.
+     *
+     * @param path the internal path of the TrueType font.
+     * @param size the size of the font (in pixels).
+     * @return the font, which is owned by the cache.
+     */
+    BitmapFont get(String path, int size) {
+        FileHandle source = Gdx.files.internal(path);
+        String key = source.nameWithoutExtension() + "-" + size;
+
+        BitmapFont font = fonts.get(key);
+        if (font != null) {
+            return font;
+        }
+
+        FileHandle dataFile = Gdx.files.local(DIRECTORY).child(key + ".font");
+        if (dataFile.exists()) {
+            try {
+                font = read(key, dataFile, source.length());
+            } catch (IOException | GdxRuntimeException e) {
+                Gdx.app.error("FontCache", "Error reading cached font " + key + ", regenerating it", e);
+            }
+        }
+        if (font == null) {
+            font = generate(key, source, size, dataFile);
+        }
+
+        fonts.put(key, font);
+        return font;
+    }
+
+    /**
+     * Dispose of every loaded font, the cache on disk is kept.
+     */
+    void dispose() {
+        for (BitmapFont font : fonts.values()) {
+            font.dispose();
+        }
+        fonts.clear();
+    }
+
+    /**
+     * Read a font from the cache.
+     *
+     * @param key          the key of the font.
+     * @param dataFile     the handle to the metrics of the font.
+     * @param sourceLength the length of the TrueType font.
+     * @return the font, or null if the cache is out of date.
+     * @throws IOException if the metrics cannot be read.
+     */
+    private BitmapFont read(String key, FileHandle dataFile, long sourceLength) throws IOException {
+        BitmapFont.BitmapFontData data;
+        int pageCount;
+        try (DataInputStream in = new DataInputStream(dataFile.read(8192))) {
+            if (in.readInt() != FORMAT_VERSION || in.readLong() != sourceLength) {
+                return null;
+            }
+            pageCount = in.readInt();
+            data = readData(in, key);
+        }
+
+        Array<TextureRegion> pages = new Array<>(pageCount);
+        for (int i = 0; i < pageCount; i++) {
+            pages.add(new TextureRegion(new Texture(dataFile.sibling(key + "_" + i + ".png"))));
+        }
+        return createFont(data, pages);
+    }
+
+    /**
+     * Generate a font with FreeType, writing it to the cache.
+     *
+     * @param key      the key of the font.
+     * @param source   the handle to the TrueType font.
+     * @param size     the size of the font (in pixels).
+     * @param dataFile the handle to write the metrics of the font to.
+     * @return the font.
+     */
+    private BitmapFont generate(String key, FileHandle source, int size, FileHandle dataFile) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(source);
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = size;
+
+        // Pack the glyphs ourselves, so the pages can be written to the cache
+        PixmapPacker packer = new PixmapPacker(
+            PAGE_SIZE,
+            PAGE_SIZE,
+            Pixmap.Format.RGBA8888,
+            1,
+            false,
+            new PixmapPacker.SkylineStrategy()
+        );
+        packer.setTransparentColor(new Color(parameter.color.r, parameter.color.g, parameter.color.b, 0));
+        parameter.packer = packer;
+
+        try {
+            BitmapFont.BitmapFontData generated = generator.generateData(parameter);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(source.length());
+                out.writeInt(packer.getPages().size);
+                writeData(out, generated);
+            }
+            write(key, dataFile, packer, bytes.toByteArray());
+
+            // Read back what was written, so a generated font is the same as one loaded from the cache
+            BitmapFont.BitmapFontData data;
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                in.skipBytes(Integer.BYTES + Long.BYTES + Integer.BYTES);
+                data = readData(in, key);
+            }
+
+            Array<TextureRegion> pages = new Array<>(packer.getPages().size);
+            for (PixmapPacker.Page page : packer.getPages()) {
+                pages.add(new TextureRegion(new Texture(page.getPixmap())));
+            }
+            return createFont(data, pages);
+        } catch (IOException e) {
+            // Only thrown by the streams in memory
+            throw new GdxRuntimeException("Error generating font " + key, e);
+        } finally {
+            packer.dispose();
+            generator.dispose();
+        }
+    }
+
+    /**
+     * Write a generated font to the cache.
+     * <p>
+     * The pages are written first, so if the metrics exist the font is complete. The metrics are written to a
+     * temporary file which then replaces the file, so they are never left half written.
+     *
+     * @param key      the key of the font.
+     * @param dataFile the handle to write the metrics of the font to.
+     * @param packer   the packer holding the pages of the font.
+     * @param bytes    the metrics of the font.
+     */
+    private static void write(String key, FileHandle dataFile, PixmapPacker packer, byte[] bytes) {
+        try {
+            Array<PixmapPacker.Page> pages = packer.getPages();
+            for (int i = 0; i < pages.size; i++) {
+                PixmapIO.writePNG(dataFile.sibling(key + "_" + i + ".png"), pages.get(i).getPixmap());
+            }
+
+            FileUtils.writeAtomically(dataFile, bytes);
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("FontCache", "Error caching font " + key, e);
+        }
+    }
+
+    private static BitmapFont createFont(BitmapFont.BitmapFontData data, Array<TextureRegion> pages) {
+        BitmapFont font = new BitmapFont(data, pages, true);
+        font.setOwnsTexture(true);
+        return font;
+    }
+
+    private static void writeData(DataOutputStream out, BitmapFont.BitmapFontData data) throws IOException {
+        out.writeBoolean(data.flipped);
+        out.writeFloat(data.padTop);
+        out.writeFloat(data.padRight);
+        out.writeFloat(data.padBottom);
+        out.writeFloat(data.padLeft);
+        out.writeFloat(data.lineHeight);
+        out.writeFloat(data.capHeight);
+        out.writeFloat(data.ascent);
+        out.writeFloat(data.descent);
+        out.writeFloat(data.down);
+        out.writeFloat(data.blankLineScale);
+        out.writeFloat(data.scaleX);
+        out.writeFloat(data.scaleY);
+        out.writeFloat(data.spaceXadvance);
+        out.writeFloat(data.xHeight);
+
+        out.writeBoolean(data.missingGlyph != null);
+        if (data.missingGlyph != null) {
+            writeGlyph(out, data.missingGlyph);
+        }
+
+        int glyphCount = 0;
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page != null) {
+                for (BitmapFont.Glyph glyph : page) {
+                    if (glyph != null) {
+                        glyphCount++;
+                    }
+                }
+            }
+        }
+        out.writeInt(glyphCount);
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page != null) {
+                for (BitmapFont.Glyph glyph : page) {
+                    if (glyph != null) {
+                        writeGlyph(out, glyph);
+                    }
+                }
+            }
+        }
+    }
+
+    private static BitmapFont.BitmapFontData readData(DataInputStream in, String key) throws IOException {
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+        data.name = key;
+        data.flipped = in.readBoolean();
+        data.padTop = in.readFloat();
+        data.padRight = in.readFloat();
+        data.padBottom = in.readFloat();
+        data.padLeft = in.readFloat();
+        data.lineHeight = in.readFloat();
+        data.capHeight = in.readFloat();
+        data.ascent = in.readFloat();
+        data.descent = in.readFloat();
+        data.down = in.readFloat();
+        data.blankLineScale = in.readFloat();
+        data.scaleX = in.readFloat();
+        data.scaleY = in.readFloat();
+        data.spaceXadvance = in.readFloat();
+        data.xHeight = in.readFloat();
+
+        if (in.readBoolean()) {
+            data.missingGlyph = readGlyph(in);
+        }
+
+        int glyphCount = in.readInt();
+        for (int i = 0; i < glyphCount; i++) {
+            BitmapFont.Glyph glyph = readGlyph(in);
+            data.setGlyph(glyph.id, glyph);
+        }
+        return data;
+    }
+
+    private static void writeGlyph(DataOutputStream out, BitmapFont.Glyph glyph) throws IOException {
+        out.writeInt(glyph.id);
+        out.writeInt(glyph.srcX);
+        out.writeInt(glyph.srcY);
+        out.writeInt(glyph.width);
+        out.writeInt(glyph.height);
+        out.writeInt(glyph.xoffset);
+        out.writeInt(glyph.yoffset);
+        out.writeInt(glyph.xadvance);
+        out.writeInt(glyph.page);
+        out.writeBoolean(glyph.fixedWidth);
+
+        // Kerning is stored in pages of the characters it applies before, most of which are empty
+        int kerningCount = 0;
+        if (glyph.kerning != null) {
+            for (byte[] page : glyph.kerning) {
+                if (page != null) {
+                    for (byte amount : page) {
+                        if (amount != 0) {
+                            kerningCount++;
+                        }
+                    }
+                }
+            }
+        }
+        out.writeInt(kerningCount);
+        if (kerningCount > 0) {
+            for (int i = 0; i < glyph.kerning.length; i++) {
+                byte[] page = glyph.kerning[i];
+                if (page != null) {
+                    for (int j = 0; j < page.length; j++) {
+                        if (page[j] != 0) {
+                            out.writeInt(i * page.length + j);
+                            out.writeByte(page[j]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static BitmapFont.Glyph readGlyph(DataInputStream in) throws IOException {
+        BitmapFont.Glyph glyph = new BitmapFont.Glyph();
+        glyph.id = in.readInt();
+        glyph.srcX = in.readInt();
+        glyph.srcY = in.readInt();
+        glyph.width = in.readInt();
+        glyph.height = in.readInt();
+        glyph.xoffset = in.readInt();
+        glyph.yoffset = in.readInt();
+        glyph.xadvance = in.readInt();
+        glyph.page = in.readInt();
+        glyph.fixedWidth = in.readBoolean();
+
+        int kerningCount = in.readInt();
+        for (int i = 0; i < kerningCount; i++) {
+            int character = in.readInt();
+            glyph.setKerning(character, in.readByte());
+        }
+        return glyph;
+    }
+}
@@ -1,15 +1,18 @@
 package com.spacecomplexity.longboilife.game.globals;
 
 import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
 import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.simulation.SimulationClock;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
- * Singleton class to contain variables relating to state/config of the game.
+ * Class to contain variables relating to state/config of a game.
+ * <p>
+ * Each game has its own instance, owned by its {@link com.spacecomplexity.longboilife.game.GameContext}.
  */
 public class GameState {
-    private static final GameState gameState = new GameState();
     /**
      * Whether the game has been started (and has not yet ended).
      */
@@ -45,6 +48,16 @@ public class GameState {
      */
     public float money;
 
+    /**
+     * The total money earned during the game, from profit and refunds.
+     */
+    private double totalIncome;
+
+    /**
+     * The total money spent during the game, on buildings, moves and game events.
+     */
+    private double totalExpenses;
+
     /**
      * The current satisfaction score.
      */
@@ -82,13 +95,38 @@ public class GameState {
     public boolean paused;
 
     /**
-     * The current count of buildings.
+     * The speed the simulation is running at.
+     */
+    public SimulationClock.Speed simulationSpeed;
+
+    /**
+     * The current count of buildings of each type, indexed by {@link BuildingType#ordinal()}.
      * <p>
-     * This should be modified by {@link GameState#getBuildingCount(BuildingType)} and {@link GameState#changeBuildingCount(BuildingType, int)} not directly.
+     * This should be read with {@link GameState#getBuildingCount(BuildingType)} and modified with
+     * {@link GameState#changeBuildingCount(BuildingType, int)}.
+     */
+    private final int[] buildingCounts = new int[BuildingType.values().length];
+
+    /**
+     * The current count of buildings in each category, indexed by {@link BuildingCategory#ordinal()}.
+     * <p>
+     * This is kept up to date by {@link GameState#changeBuildingCount(BuildingType, int)} so counts can be read without
+     * scanning the world's buildings.
+     */
+    private final int[] categoryCounts = new int[BuildingCategory.values().length];
+
+    /**
+     * The current count of every building, kept up to date by {@link GameState#changeBuildingCount(BuildingType, int)}.
+     */
+    private int totalBuildingCount = 0;
+
+    /**
+     * The total profit of every building each {@link GameState#PROFIT_INTERVAL}.
      * <p>
-     * This is initialised in the constructor.
+     * This is kept up to date by {@link GameState#changeBuildingCount(BuildingType, int)} so profit can be added
+     * without looking at every building type.
      */
-    public HashMap<BuildingType, Integer> buildingsCount;
+    private float profitPerInterval = 0;
 
     /**
      * Helper function to get the number of a specified building.
@@ -96,14 +134,8 @@ public class GameState {
      * @param buildingType the building type to get.
      * @return the building count for this specific building.
      */
-    public Integer getBuildingCount(BuildingType buildingType) {
-        Integer count = buildingsCount.get(buildingType);
-        // If this has not yet been set return 0
-        if (count == null) {
-            return 0;
-        }
-
-        return count;
+    public int getBuildingCount(BuildingType buildingType) {
+        return buildingCounts[buildingType.ordinal()];
     }
 
     /**
@@ -113,8 +145,29 @@ public class GameState {
      * @param change       the amount to change it by.
      */
     public void changeBuildingCount(BuildingType buildingType, int change) {
-        int count = getBuildingCount(buildingType);
-        buildingsCount.put(buildingType, count + change);
+        buildingCounts[buildingType.ordinal()] += change;
+        categoryCounts[buildingType.getCategory().ordinal()] += change;
+        totalBuildingCount += change;
+        profitPerInterval += change * buildingType.getProfitPerTick();
+    }
+
+    /**
+     * Get the number of buildings in a category.
+     *
+     * @param category the building category.
+     * @return the number of buildings in this category.
+     */
+    public int getCategoryCount(BuildingCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    /**
+     * Get the number of buildings of every type.
+     *
+     * @return the number of buildings.
+     */
+    public int getTotalBuildingCount() {
+        return totalBuildingCount;
     }
 
     /**
@@ -141,16 +194,7 @@ public class GameState {
      */
     public int totalEvents = 0;
 
-    /**
-     * Get the singleton instance of the {@link GameState} class.
-     *
-     * @return The single {@link GameState} class.
-     */
-    public static GameState getState() {
-        return gameState;
-    }
-
-    private GameState() {
+    public GameState() {
         reset();
     }
 
@@ -166,27 +210,34 @@ public class GameState {
         cameraScrollZoomSpeed = 4;
 //        fullscreen = false;
         money = 800000;
+        totalIncome = 0;
+        totalExpenses = 0;
         satisfactionScore = 0.0;
         placingBuilding = null;
         selectedBuilding = null;
         movingBuilding = null;
         buildMenuOpen = false;
         paused = false;
-        buildingsCount = new HashMap<>();
+        simulationSpeed = SimulationClock.Speed.X1;
+        Arrays.fill(buildingCounts, 0);
+        Arrays.fill(categoryCounts, 0);
+        totalBuildingCount = 0;
+        profitPerInterval = 0;
         gameOver = false;
         shiftHeld = false;
         buildingHoverTime = 0f;
         hoveredBuilding = null;
         profitTimer = 0f;
+        totalEvents = 0;
     }
 
-    public float calculateTotalProfit() {
-        float totalProfit = 0;
-        for (BuildingType type : BuildingType.values()) {
-            int count = getBuildingCount(type);
-            totalProfit += count * type.getProfitPerTick();
-        }
-        return totalProfit;
+    /**
+     * Get the total profit of every building each {@link GameState#PROFIT_INTERVAL}.
+     *
+     * @return the total profit.
+     */
+    public float getProfitPerInterval() {
+        return profitPerInterval;
     }
 
     public float getProfitTimer() {
@@ -197,6 +248,49 @@ public class GameState {
         profitTimer += delta;
     }
 
+    public void setProfitTimer(float profitTimer) {
+        this.profitTimer = profitTimer;
+    }
+
+    /**
+     * Add money earned, counting it towards the total income.
+     *
+     * @param amount the amount earned.
+     */
+    public void earn(double amount) {
+        money += amount;
+        totalIncome += amount;
+    }
+
+    /**
+     * Remove money spent, counting it towards the total expenses.
+     *
+     * @param amount the amount spent.
+     */
+    public void spend(double amount) {
+        money -= amount;
+        totalExpenses += amount;
+    }
+
+    public double getTotalIncome() {
+        return totalIncome;
+    }
+
+    public double getTotalExpenses() {
+        return totalExpenses;
+    }
+
+    /**
+     * Set the totals of money earned and spent, such as when restoring a saved state.
+     *
+     * @param totalIncome   the total money earned.
+     * @param totalExpenses the total money spent.
+     */
+    public void setTotals(double totalIncome, double totalExpenses) {
+        this.totalIncome = totalIncome;
+        this.totalExpenses = totalExpenses;
+    }
+
     public float getBudget() {
         return money;
     }
@@ -15,6 +15,7 @@ public enum Keybindings {
     FULLSCREEN(Input.Keys.F11),
     CANCEL(Input.Keys.ESCAPE),
     PAUSE(Input.Keys.SPACE),
+    CHANGE_SPEED(Input.Keys.TAB),
     OPEN_SETTINGS(Input.Keys.ESCAPE),
     ;
 
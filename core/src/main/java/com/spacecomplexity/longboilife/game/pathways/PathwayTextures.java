@@ -2,7 +2,9 @@ package com.spacecomplexity.longboilife.game.pathways;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.AssetHandle;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 
 /**
@@ -21,14 +23,14 @@ public class PathwayTextures {
     }
 
     /**
-     * Map containing the textures
+     * Map containing handles to the textures, which are only loaded on first use
      */
-    private static final HashMap<BuildingType, HashMap<PathwayTextures.Type, Texture>> textureList = new HashMap<>() {{
-        put(BuildingType.ROAD, new HashMap<>() {{
-            put(PathwayTextures.Type.STRAIGHT, new Texture("buildings/roads/straight.png"));
-            put(PathwayTextures.Type.CORNER, new Texture("buildings/roads/corner.png"));
-            put(PathwayTextures.Type.TJUNC, new Texture("buildings/roads/3-way.png"));
-            put(PathwayTextures.Type.CROSS, new Texture("buildings/roads/4-way.png"));
+    private static final HashMap<BuildingType, EnumMap<PathwayTextures.Type, AssetHandle<Texture>>> textureList = new HashMap<>() {{
+        put(BuildingType.ROAD, new EnumMap<>(PathwayTextures.Type.class) {{
+            put(PathwayTextures.Type.STRAIGHT, new AssetHandle<>("buildings/roads/straight.png", Texture.class));
+            put(PathwayTextures.Type.CORNER, new AssetHandle<>("buildings/roads/corner.png", Texture.class));
+            put(PathwayTextures.Type.TJUNC, new AssetHandle<>("buildings/roads/3-way.png", Texture.class));
+            put(PathwayTextures.Type.CROSS, new AssetHandle<>("buildings/roads/4-way.png", Texture.class));
         }});
     }};
 
@@ -40,6 +42,17 @@ public class PathwayTextures {
      * @return the texture fitting these criteria.
      */
     public static Texture getTexture(BuildingType buildingType, PathwayTextures.Type pathwayTextureType) {
-        return textureList.get(buildingType).get(pathwayTextureType);
+        return textureList.get(buildingType).get(pathwayTextureType).get();
+    }
+
+    /**
+     * Queue every pathway texture to be loaded in the background.
+     */
+    public static void queueTextures() {
+        for (EnumMap<PathwayTextures.Type, AssetHandle<Texture>> textures : textureList.values()) {
+            for (AssetHandle<Texture> texture : textures.values()) {
+                texture.queue();
+            }
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Log of every {@link PlayerCommand} given during a game, in the order they were given.
+ */
+public class CommandLog {
+    private final List<PlayerCommand> commands = new ArrayList<>();
+
+    /**
+     * Add a command to the end of the log.
+     *
+     * @param tick         the number of simulation ticks which had started when the command was given.
+     * @param type         the type of command.
+     * @param buildingType the type of building built, or null if not a {@link PlayerCommand.Type#BUILD}.
+     * @param position     the position the command acted on, or null if it did not act on a position.
+     * @return the command added.
+     */
+    public PlayerCommand record(long tick, PlayerCommand.Type type, BuildingType buildingType, Vector2Int position) {
+        int x = position == null ? 0 : position.x;
+        int y = position == null ? 0 : position.y;
+        PlayerCommand command = new PlayerCommand(tick, type, buildingType, x, y);
+        commands.add(command);
+        return command;
+    }
+
+    /**
+     * Get every command given so far.
+     *
+     * @return an unmodifiable view of the commands, in the order they were given.
+     */
+    public List<PlayerCommand> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    public int size() {
+        return commands.size();
+    }
+}
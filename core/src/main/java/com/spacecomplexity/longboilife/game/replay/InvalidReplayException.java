@@ -0,0 +1,14 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+/**
+ * Exception to indicate an issue when reading a replay file.
+ */
+public class InvalidReplayException extends RuntimeException {
+    public InvalidReplayException(String message) {
+        super(message);
+    }
+
+    public InvalidReplayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,285 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.building.BuildingModifiers;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.building.SatisfactionModifier;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The full state of a simulation at the end of a tick.
+ * <p>
+ * Restoring a keyframe with {@link com.spacecomplexity.longboilife.game.simulation.Simulation#restoreKeyframe(Keyframe)}
+ * and then giving the commands from the same tick onwards plays out exactly the same as playing from the start.
+ *
+ * @param tick              the number of ticks which had run.
+ * @param time              the simulated time since the game started (in seconds).
+ * @param eventDraws        the number of random samples taken for game events.
+ * @param eventRates        the rate of each game event (per second), indexed by ordinal.
+ * @param eventTimes        the time each game event was next scheduled for (in seconds since the game started), or
+ *                          {@link Double#NaN} if it was not scheduled, indexed by ordinal.
+ * @param timeLeft          the time left in the game (in ms).
+ * @param money             the amount of money the player had.
+ * @param totalIncome       the total money earned.
+ * @param totalExpenses     the total money spent.
+ * @param satisfactionScore the satisfaction score.
+ * @param profitTimer       the simulated time since profit was last added (in seconds).
+ * @param totalEvents       the number of game events which had occurred.
+ * @param buildings         every building in the world, in the order they are stored in the world.
+ * @param movingBuilding    the building being moved, or null if there was none.
+ */
+public record Keyframe(
+    long tick,
+    double time,
+    long eventDraws,
+    double[] eventRates,
+    double[] eventTimes,
+    double timeLeft,
+    float money,
+    double totalIncome,
+    double totalExpenses,
+    double satisfactionScore,
+    float profitTimer,
+    int totalEvents,
+    List<BuildingState> buildings,
+    BuildingState movingBuilding
+) {
+    /**
+     * The state of a single building.
+     *
+     * @param type                  the type of building.
+     * @param x                     the x coordinate of the bottom left of the building.
+     * @param y                     the y coordinate of the bottom left of the building.
+     * @param incomeMultiplier      the amount the building's profit is multiplied by.
+     * @param incomeExpiry          the time the income modifier expires (in seconds since the game started), or
+     *                              {@link Double#NaN} if it has none.
+     * @param satisfactionModifiers the satisfaction modifiers from game events, in the order they were applied.
+     */
+    public record BuildingState(
+        BuildingType type,
+        int x,
+        int y,
+        double incomeMultiplier,
+        double incomeExpiry,
+        List<SatisfactionModifier> satisfactionModifiers
+    ) {
+        private static final SatisfactionModifier.Source[] SOURCES = SatisfactionModifier.Source.values();
+
+        /**
+         * Get the state of a building.
+         *
+         * @param building  the building.
+         * @param modifiers the modifiers of the world the building was built in.
+         * @return the state of the building.
+         */
+        public static BuildingState of(Building building, BuildingModifiers modifiers) {
+            Vector2Int position = building.getPosition();
+            int id = building.getId();
+            return new BuildingState(
+                building.getType(),
+                position.x,
+                position.y,
+                modifiers.getIncomeMultiplier(id),
+                modifiers.getIncomeExpiry(id),
+                List.copyOf(building.getSatisfactionModifiers())
+            );
+        }
+
+        /**
+         * Create a new building with this state.
+         * <p>
+         * The building's satisfaction modifiers are added, but the world's {@link BuildingModifiers} should be set
+         * once it has been given an id.
+         *
+         * @return the building, which has not been built in any world.
+         */
+        public Building toBuilding() {
+            Building building = new Building(type, new Vector2Int(x, y));
+            for (SatisfactionModifier modifier : satisfactionModifiers) {
+                building.addSatisfactionModifier(modifier);
+            }
+            return building;
+        }
+
+        private boolean hasIncomeModifier() {
+            return !Double.isNaN(incomeExpiry);
+        }
+
+        private int encodedSize() {
+            return 1 + ReplayFormat.varLongSize(x) + ReplayFormat.varLongSize(y)
+                + 1 + (hasIncomeModifier() ? 16 : 0)
+                + ReplayFormat.varLongSize(satisfactionModifiers.size()) + satisfactionModifiers.size() * 17;
+        }
+
+        private void write(ByteBuffer buffer) {
+            buffer.put((byte) type.ordinal());
+            ReplayFormat.putVarLong(buffer, x);
+            ReplayFormat.putVarLong(buffer, y);
+
+            // Most buildings have no income modifier, so it is only written if there is one
+            buffer.put((byte) (hasIncomeModifier() ? 1 : 0));
+            if (hasIncomeModifier()) {
+                buffer.putDouble(incomeMultiplier);
+                buffer.putDouble(incomeExpiry);
+            }
+
+            ReplayFormat.putVarLong(buffer, satisfactionModifiers.size());
+            for (SatisfactionModifier modifier : satisfactionModifiers) {
+                buffer.put((byte) modifier.source().ordinal());
+                buffer.putDouble(modifier.value());
+                buffer.putDouble(modifier.startTime());
+            }
+        }
+
+        private static BuildingState read(ByteBuffer buffer) {
+            BuildingType type = BuildingType.values()[buffer.get()];
+            int x = (int) ReplayFormat.getVarLong(buffer);
+            int y = (int) ReplayFormat.getVarLong(buffer);
+
+            double incomeMultiplier = 1;
+            double incomeExpiry = Double.NaN;
+            if (buffer.get() != 0) {
+                incomeMultiplier = buffer.getDouble();
+                incomeExpiry = buffer.getDouble();
+            }
+
+            int modifierCount = (int) ReplayFormat.getVarLong(buffer);
+            List<SatisfactionModifier> satisfactionModifiers = new ArrayList<>(modifierCount);
+            for (int i = 0; i < modifierCount; i++) {
+                SatisfactionModifier.Source source = SOURCES[buffer.get()];
+                satisfactionModifiers.add(new SatisfactionModifier(source, buffer.getDouble(), buffer.getDouble()));
+            }
+
+            return new BuildingState(type, x, y, incomeMultiplier, incomeExpiry, satisfactionModifiers);
+        }
+    }
+
+    // The fixed size fields, not including the tick as this is written separately so keyframes can be found quickly
+    private static final int FIXED_SIZE = 8 + 8 + 1 + 8 + 4 + 8 + 8 + 8 + 4 + 4 + 4 + 1;
+
+    /**
+     * Check if this keyframe has exactly the same state as another.
+     * <p>
+     * Unlike {@link Keyframe#equals(Object)}, this compares the contents of the arrays, so two keyframes created from
+     * separate simulations can be compared.
+     *
+     * @param other the keyframe to compare to.
+     * @return whether both keyframes are of the same tick and would be written identically.
+     */
+    public boolean sameState(Keyframe other) {
+        if (tick != other.tick || encodedSize() != other.encodedSize()) {
+            return false;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize());
+        ByteBuffer otherBuffer = ByteBuffer.allocate(other.encodedSize());
+        write(buffer);
+        other.write(otherBuffer);
+        return buffer.flip().equals(otherBuffer.flip());
+    }
+
+    /**
+     * Write the keyframe in the replay file format.
+     * <p>
+     * The tick is not written, this is written by the caller before the keyframe.
+     *
+     * @param buffer the buffer to write to, this must have at least {@link Keyframe#encodedSize()} bytes remaining.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putDouble(time);
+        buffer.putLong(eventDraws);
+        buffer.put((byte) eventRates.length);
+        for (int i = 0; i < eventRates.length; i++) {
+            buffer.putDouble(eventRates[i]);
+            buffer.putDouble(eventTimes[i]);
+        }
+        buffer.putDouble(timeLeft);
+        buffer.putFloat(money);
+        buffer.putDouble(totalIncome);
+        buffer.putDouble(totalExpenses);
+        buffer.putDouble(satisfactionScore);
+        buffer.putFloat(profitTimer);
+        buffer.putInt(totalEvents);
+
+        buffer.putInt(buildings.size());
+        for (BuildingState building : buildings) {
+            building.write(buffer);
+        }
+
+        buffer.put((byte) (movingBuilding == null ? 0 : 1));
+        if (movingBuilding != null) {
+            movingBuilding.write(buffer);
+        }
+    }
+
+    /**
+     * Get the number of bytes {@link Keyframe#write(ByteBuffer)} will write.
+     *
+     * @return the number of bytes.
+     */
+    int encodedSize() {
+        int size = FIXED_SIZE + eventRates.length * 16;
+        for (BuildingState building : buildings) {
+            size += building.encodedSize();
+        }
+        if (movingBuilding != null) {
+            size += movingBuilding.encodedSize();
+        }
+        return size;
+    }
+
+    /**
+     * Read a keyframe written by {@link Keyframe#write(ByteBuffer)}.
+     *
+     * @param tick   the tick of the keyframe, which is stored before it.
+     * @param buffer the buffer to read from.
+     * @return the keyframe.
+     */
+    static Keyframe read(long tick, ByteBuffer buffer) {
+        double time = buffer.getDouble();
+        long eventDraws = buffer.getLong();
+        int events = buffer.get();
+        double[] eventRates = new double[events];
+        double[] eventTimes = new double[events];
+        for (int i = 0; i < events; i++) {
+            eventRates[i] = buffer.getDouble();
+            eventTimes[i] = buffer.getDouble();
+        }
+        double timeLeft = buffer.getDouble();
+        float money = buffer.getFloat();
+        double totalIncome = buffer.getDouble();
+        double totalExpenses = buffer.getDouble();
+        double satisfactionScore = buffer.getDouble();
+        float profitTimer = buffer.getFloat();
+        int totalEvents = buffer.getInt();
+
+        int buildingCount = buffer.getInt();
+        List<BuildingState> buildings = new ArrayList<>(buildingCount);
+        for (int i = 0; i < buildingCount; i++) {
+            buildings.add(BuildingState.read(buffer));
+        }
+
+        BuildingState movingBuilding = buffer.get() == 0 ? null : BuildingState.read(buffer);
+
+        return new Keyframe(
+            tick,
+            time,
+            eventDraws,
+            eventRates,
+            eventTimes,
+            timeLeft,
+            money,
+            totalIncome,
+            totalExpenses,
+            satisfactionScore,
+            profitTimer,
+            totalEvents,
+            buildings,
+            movingBuilding
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+
+/**
+ * A single action taken by the player which changed the simulation.
+ * <p>
+ * Together with the game's seed, the commands of a game are enough to play the whole game again exactly.
+ *
+ * @param tick         the number of simulation ticks which had started when the command was given.
+ * @param type         the type of command.
+ * @param buildingType the type of building built, only used by {@link Type#BUILD}.
+ * @param x            the x coordinate the command acted on, unused by {@link Type#CANCEL_MOVE}.
+ * @param y            the y coordinate the command acted on, unused by {@link Type#CANCEL_MOVE}.
+ */
+public record PlayerCommand(long tick, Type type, BuildingType buildingType, int x, int y) {
+    /**
+     * The types of command the player can give.
+     */
+    public enum Type {
+        /**
+         * Buy and build a new building at a position.
+         */
+        BUILD,
+        /**
+         * Sell the building at a position.
+         */
+        SELL,
+        /**
+         * Pick up the building at a position to move it.
+         */
+        PICK_UP,
+        /**
+         * Place the building being moved at a position.
+         */
+        PLACE,
+        /**
+         * Put the building being moved back where it was picked up from.
+         */
+        CANCEL_MOVE,
+    }
+
+    public Vector2Int getPosition() {
+        return new Vector2Int(x, y);
+    }
+}
@@ -0,0 +1,226 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything needed to play a game again exactly: the seed, the map, the tick length and every player command.
+ * <p>
+ * A replay also contains keyframes of the full state of the game at regular intervals, so it can be played from any
+ * point, and the outcome of the recorded game, so replaying it can check the game still plays out the same way (such
+ * as after a change to the simulation).
+ * <p>
+ * Replays are recorded by a {@link ReplayRecorder}. Keyframes are only decoded when they are used, so reading a
+ * replay is quick however long the game was.
+ */
+public class Replay {
+    /**
+     * The result of a game, used to check a replay played out the same as when it was recorded.
+     *
+     * @param ticks        the number of ticks the game lasted.
+     * @param satisfaction the final satisfaction score.
+     * @param money        the final amount of money.
+     * @param events       the number of game events which occurred.
+     */
+    public record Outcome(long ticks, double satisfaction, float money, int events) {
+        /**
+         * Get the outcome of a game.
+         *
+         * @param context the context of the game.
+         * @return the outcome of the game so far.
+         */
+        public static Outcome of(GameContext context) {
+            GameState gameState = context.getGameState();
+            return new Outcome(
+                context.getSimulation().getTickCount(),
+                gameState.satisfactionScore,
+                gameState.money,
+                gameState.getTotalEvents()
+            );
+        }
+    }
+
+    private final long seed;
+    private final String map;
+    private final float step;
+    private final List<PlayerCommand> commands;
+    private final Outcome outcome;
+
+    // The file the keyframes are decoded from
+    private final ByteBuffer data;
+    // The tick and position in the data of each keyframe, in order of tick
+    private final long[] keyframeTicks;
+    private final int[] keyframePositions;
+
+    private Replay(long seed, String map, float step, List<PlayerCommand> commands, Outcome outcome, ByteBuffer data, long[] keyframeTicks, int[] keyframePositions) {
+        this.seed = seed;
+        this.map = map;
+        this.step = step;
+        this.commands = Collections.unmodifiableList(commands);
+        this.outcome = outcome;
+        this.data = data;
+        this.keyframeTicks = keyframeTicks;
+        this.keyframePositions = keyframePositions;
+    }
+
+    /**
+     * Read a replay from a file recorded by a {@link ReplayRecorder}.
+     * <p>
+     * The file is memory mapped and only the commands are decoded, keyframes are decoded from the file when needed.
+     *
+     * @param file the file to read.
+     * @return the replay.
+     * @throws InvalidReplayException if the file could not be read, is not a valid replay or is of a different version.
+     */
+    public static Replay read(FileHandle file) throws InvalidReplayException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new InvalidReplayException("Issue reading replay file \"" + file.name() + "\": " + e.getMessage(), e);
+        }
+
+        try {
+            if (data.getInt() != ReplayFormat.MAGIC) {
+                throw new InvalidReplayException("\"" + file.name() + "\" is not a replay file");
+            }
+            short version = data.getShort();
+            if (version != ReplayFormat.VERSION) {
+                throw new InvalidReplayException("Unsupported replay version " + version + " in \"" + file.name() + "\"");
+            }
+
+            long seed = data.getLong();
+            float step = data.getFloat();
+            data.getInt(); // Keyframe interval, only needed when recording
+            long length = data.getLong();
+            String map = ReplayFormat.getString(data);
+
+            if (length > data.capacity()) {
+                throw new InvalidReplayException("Replay file \"" + file.name() + "\" is truncated");
+            }
+            data.limit((int) length);
+
+            List<PlayerCommand> commands = new ArrayList<>();
+            long[] keyframeTicks = new long[16];
+            int[] keyframePositions = new int[16];
+            int keyframes = 0;
+            Outcome outcome = null;
+
+            BuildingType[] buildingTypes = BuildingType.values();
+            PlayerCommand.Type[] commandTypes = PlayerCommand.Type.values();
+
+            long tick = 0;
+            while (data.hasRemaining()) {
+                byte tag = data.get();
+                switch (tag) {
+                    case ReplayFormat.TAG_COMMAND:
+                        tick += ReplayFormat.getVarLong(data);
+                        PlayerCommand.Type type = commandTypes[data.get()];
+                        int building = data.get();
+                        int x = (int) ReplayFormat.getVarLong(data);
+                        int y = (int) ReplayFormat.getVarLong(data);
+                        commands.add(new PlayerCommand(tick, type, building == 0 ? null : buildingTypes[building - 1], x, y));
+                        break;
+                    case ReplayFormat.TAG_KEYFRAME:
+                        int size = data.getInt();
+                        tick = data.getLong();
+                        // Only remember where the keyframe is, skipping over its contents
+                        if (keyframes == keyframeTicks.length) {
+                            keyframeTicks = Arrays.copyOf(keyframeTicks, keyframes * 2);
+                            keyframePositions = Arrays.copyOf(keyframePositions, keyframes * 2);
+                        }
+                        keyframeTicks[keyframes] = tick;
+                        keyframePositions[keyframes] = data.position();
+                        keyframes++;
+                        data.position(data.position() + size);
+                        break;
+                    case ReplayFormat.TAG_OUTCOME:
+                        outcome = new Outcome(data.getLong(), data.getDouble(), data.getFloat(), data.getInt());
+                        break;
+                    default:
+                        throw new InvalidReplayException("Unknown record " + tag + " in replay file \"" + file.name() + "\"");
+                }
+            }
+
+            return new Replay(
+                seed,
+                map,
+                step,
+                commands,
+                outcome,
+                data,
+                Arrays.copyOf(keyframeTicks, keyframes),
+                Arrays.copyOf(keyframePositions, keyframes)
+            );
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            // If there is an issue in parsing throw an exception
+            throw new InvalidReplayException("Issue reading replay file \"" + file.name() + "\": " + e, e);
+        }
+    }
+
+    /**
+     * Find the latest keyframe at or before a tick.
+     *
+     * @param tick the tick.
+     * @return the keyframe, or null if there are no keyframes before this tick.
+     * @throws InvalidReplayException if the keyframe could not be decoded.
+     */
+    public Keyframe findKeyframe(long tick) throws InvalidReplayException {
+        int index = Arrays.binarySearch(keyframeTicks, tick);
+        // If there is not a keyframe at exactly this tick use the one before where it would be
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0) {
+            return null;
+        }
+
+        try {
+            return Keyframe.read(keyframeTicks[index], data.duplicate().position(keyframePositions[index]));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new InvalidReplayException("Issue reading keyframe at tick " + keyframeTicks[index] + ": " + e, e);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getMap() {
+        return map;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public List<PlayerCommand> getCommands() {
+        return commands;
+    }
+
+    public int getKeyframeCount() {
+        return keyframeTicks.length;
+    }
+
+    /**
+     * Get the outcome of the recorded game.
+     *
+     * @return the outcome, or null if the game did not finish.
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+}
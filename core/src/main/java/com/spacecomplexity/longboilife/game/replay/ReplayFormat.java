@@ -0,0 +1,119 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and encoding helpers for the binary replay file format, shared by {@link ReplayRecorder} and
+ * {@link Replay#read(com.badlogic.gdx.files.FileHandle)}.
+ * <p>
+ * A replay file is made up of a header followed by a stream of records:
+ * <ul>
+ *     <li>Header: magic, version, seed, step, keyframe interval (in ticks), the length of the file which has been
+ *     written, then the map path.</li>
+ *     <li>{@link ReplayFormat#TAG_COMMAND}: the number of ticks since the previous record, then the command.</li>
+ *     <li>{@link ReplayFormat#TAG_KEYFRAME}: the length of the keyframe, then the {@link Keyframe}.</li>
+ *     <li>{@link ReplayFormat#TAG_OUTCOME}: the {@link Replay.Outcome} of the game, this is the last record.</li>
+ * </ul>
+ * Integers which are usually small (such as tick gaps and positions) are written as variable length integers, so
+ * most commands take 5 or 6 bytes.
+ */
+final class ReplayFormat {
+    /**
+     * The first bytes of every replay file, "LBLR".
+     */
+    static final int MAGIC = 0x4C424C52;
+
+    /**
+     * The version of the replay file format, replays of a different version cannot be read.
+     */
+    static final short VERSION = 6;
+
+    /**
+     * The position in the header of the length of the file which has been written.
+     * <p>
+     * This is updated after every record, so a replay can be read even if the game was closed without finishing it,
+     * and any space at the end of the file which has not yet been written is ignored.
+     */
+    static final int LENGTH_OFFSET = 22;
+
+    static final byte TAG_COMMAND = 1;
+    static final byte TAG_KEYFRAME = 2;
+    static final byte TAG_OUTCOME = 3;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Write a non-negative integer using 7 bits per byte, with the top bit set on all but the last byte.
+     *
+     * @param buffer the buffer to write to.
+     * @param value  the value to write.
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Read an integer written by {@link ReplayFormat#putVarLong(ByteBuffer, long)}.
+     *
+     * @param buffer the buffer to read from.
+     * @return the value read.
+     * @throws IllegalArgumentException if the integer is longer than 64 bits.
+     */
+    static long getVarLong(ByteBuffer buffer) throws IllegalArgumentException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Variable length integer is too long");
+    }
+
+    /**
+     * Get the number of bytes {@link ReplayFormat#putVarLong(ByteBuffer, long)} will write for a value.
+     *
+     * @param value the value.
+     * @return the number of bytes.
+     */
+    static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Write a string as its length in bytes followed by its UTF-8 bytes.
+     *
+     * @param buffer the buffer to write to.
+     * @param bytes  the UTF-8 bytes of the string.
+     */
+    static void putString(ByteBuffer buffer, byte[] bytes) {
+        putVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Read a string written by {@link ReplayFormat#putString(ByteBuffer, byte[])}.
+     *
+     * @param buffer the buffer to read from.
+     * @return the string.
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = (int) getVarLong(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
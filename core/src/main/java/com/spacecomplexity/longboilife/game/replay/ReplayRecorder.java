@@ -0,0 +1,213 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records a game to a binary replay file as it is played.
+ * <p>
+ * The file is memory mapped, so recording a command is just a few writes to memory and the operating system writes
+ * these to disk in the background. Every {@link ReplayRecorder#keyframeTicks} ticks a {@link Keyframe} of the full
+ * state of the simulation is also written, so a replay can be started from any point without playing from the start.
+ * <p>
+ * The recorder should be attached to the simulation with
+ * {@link Simulation#setRecorder(ReplayRecorder)} before the simulation is started.
+ */
+public class ReplayRecorder {
+    /**
+     * The default amount of simulated time between each keyframe (in seconds).
+     */
+    public static final float DEFAULT_KEYFRAME_INTERVAL = 10f;
+
+    // The size the file starts at, this doubles every time it is filled
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    private final long keyframeTicks;
+
+    // The tick of the last record, commands store the ticks since this
+    private long lastTick = 0;
+
+    private IOException error;
+    private boolean closed = false;
+
+    /**
+     * Create a new replay file and start recording to it.
+     *
+     * @param file             the file to record to, this is overwritten.
+     * @param seed             the seed of the game.
+     * @param map              the internal path of the map file the game is played on.
+     * @param step             the amount of simulated time for each tick (in seconds).
+     * @param keyframeInterval the amount of simulated time between each keyframe (in seconds).
+     * @throws IOException              if the file could not be created.
+     * @throws IllegalArgumentException if the keyframe interval is shorter than a tick.
+     */
+    public ReplayRecorder(FileHandle file, long seed, String map, float step, float keyframeInterval) throws IOException, IllegalArgumentException {
+        keyframeTicks = Math.round(keyframeInterval / step);
+        if (keyframeTicks <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be at least one tick: " + keyframeInterval);
+        }
+
+        file.parent().mkdirs();
+        channel = FileChannel.open(
+            file.file().toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_CAPACITY);
+
+        // Write the header
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.putShort(ReplayFormat.VERSION);
+        buffer.putLong(seed);
+        buffer.putFloat(step);
+        buffer.putInt((int) keyframeTicks);
+        buffer.putLong(0);
+        ReplayFormat.putString(buffer, map.getBytes(StandardCharsets.UTF_8));
+        commit();
+    }
+
+    /**
+     * Record a command given by the player.
+     * <p>
+     * This is called by the simulation for every command.
+     *
+     * @param command the command.
+     */
+    public void recordCommand(PlayerCommand command) {
+        if (!ensureCapacity(32)) {
+            return;
+        }
+
+        buffer.put(ReplayFormat.TAG_COMMAND);
+        ReplayFormat.putVarLong(buffer, command.tick() - lastTick);
+        buffer.put((byte) command.type().ordinal());
+        // Store building types one higher so 0 can mean no building
+        buffer.put((byte) (command.buildingType() == null ? 0 : command.buildingType().ordinal() + 1));
+        ReplayFormat.putVarLong(buffer, command.x());
+        ReplayFormat.putVarLong(buffer, command.y());
+        lastTick = command.tick();
+        commit();
+    }
+
+    /**
+     * Write a keyframe if one is due.
+     * <p>
+     * This is called by the simulation at the end of every tick.
+     *
+     * @param simulation the simulation being recorded.
+     */
+    public void tickEnded(Simulation simulation) {
+        long tick = simulation.getTickCount();
+        if (tick % keyframeTicks != 0) {
+            return;
+        }
+
+        Keyframe keyframe = simulation.createKeyframe();
+        int size = keyframe.encodedSize();
+        if (!ensureCapacity(1 + 4 + 8 + size)) {
+            return;
+        }
+
+        buffer.put(ReplayFormat.TAG_KEYFRAME);
+        buffer.putInt(size);
+        buffer.putLong(tick);
+        keyframe.write(buffer);
+        lastTick = tick;
+        commit();
+    }
+
+    /**
+     * Record the outcome of the game and close the file.
+     * <p>
+     * If the replay could not be fully written, the file will still contain everything up until the error.
+     *
+     * @param outcome the outcome of the game, or null if the game did not finish.
+     * @throws IOException if there was an error writing any part of the replay.
+     */
+    public void close(Replay.Outcome outcome) throws IOException {
+        if (closed) {
+            return;
+        }
+
+        if (outcome != null && ensureCapacity(1 + 8 + 8 + 4 + 4)) {
+            buffer.put(ReplayFormat.TAG_OUTCOME);
+            buffer.putLong(outcome.ticks());
+            buffer.putDouble(outcome.satisfaction());
+            buffer.putFloat(outcome.money());
+            buffer.putInt(outcome.events());
+            commit();
+        }
+        closed = true;
+
+        try {
+            buffer.force();
+            // Remove the unused space at the end of the file
+            // Some platforms cannot shrink a file while it is mapped, but the length in the header means readers
+            // ignore this space anyway
+            try {
+                channel.truncate(buffer.position());
+            } catch (IOException ignored) {
+            }
+        } finally {
+            channel.close();
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Update the length in the header to include everything written.
+     */
+    private void commit() {
+        buffer.putLong(ReplayFormat.LENGTH_OFFSET, buffer.position());
+    }
+
+    /**
+     * Make sure there is space to write a record, mapping a larger region of the file if not.
+     * <p>
+     * If the file cannot be grown the error is kept to be thrown by {@link ReplayRecorder#close(Replay.Outcome)} and
+     * nothing more is recorded, so a failure to record never stops the game.
+     *
+     * @param bytes the size of the record.
+     * @return whether the record can be written.
+     */
+    private boolean ensureCapacity(int bytes) {
+        // Once closed or failed nothing more can be recorded
+        if (closed || error != null) {
+            return false;
+        }
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+
+        int position = buffer.position();
+        long capacity = Math.max((long) buffer.capacity() * 2, position + (long) bytes);
+        if (capacity > Integer.MAX_VALUE) {
+            error = new IOException("Replay is too large to record");
+            return false;
+        }
+
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.position(position);
+            return true;
+        } catch (IOException e) {
+            error = e;
+            return false;
+        }
+    }
+}
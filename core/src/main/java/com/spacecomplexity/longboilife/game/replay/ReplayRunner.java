@@ -0,0 +1,129 @@
+package com.spacecomplexity.longboilife.game.replay;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+import com.spacecomplexity.longboilife.game.world.World;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+
+/**
+ * Plays a {@link Replay} as fast as possible, with no rendering.
+ * <p>
+ * Commands are given to the simulation before the same tick they were given before when recorded, so the game plays
+ * out exactly as it was recorded. To seek to a point in the replay the nearest keyframe before it is restored and
+ * only the ticks after this are simulated.
+ */
+public class ReplayRunner {
+    private final Replay replay;
+
+    private int failedCommands = 0;
+
+    /**
+     * Create a runner for a replay.
+     *
+     * @param replay the replay to play.
+     */
+    public ReplayRunner(Replay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Play the whole replay on the current thread.
+     *
+     * @param mapFile the handle to the map file the replay was recorded on.
+     * @return the context of the finished game.
+     * @throws FileNotFoundException if the map file does not exist.
+     */
+    public GameContext run(FileHandle mapFile) throws FileNotFoundException {
+        return seek(mapFile, Long.MAX_VALUE);
+    }
+
+    /**
+     * Play the replay up until the end of a tick on the current thread, starting from the nearest keyframe.
+     *
+     * @param mapFile the handle to the map file the replay was recorded on.
+     * @param tick    the tick to stop after, if this is after the end of the game the whole game is played.
+     * @return the context of the game at this point, this can be continued by ticking the simulation.
+     * @throws FileNotFoundException if the map file does not exist.
+     */
+    public GameContext seek(FileHandle mapFile, long tick) throws FileNotFoundException {
+        GameContext context = new GameContext(replay.getSeed());
+        context.setWorld(new World(mapFile, context.getGameState()));
+
+        Simulation simulation = context.getSimulation();
+        simulation.start();
+
+        List<PlayerCommand> commands = replay.getCommands();
+        int next = 0;
+        failedCommands = 0;
+
+        // Skip straight to the nearest keyframe, and the first command given after it
+        Keyframe keyframe = replay.findKeyframe(tick);
+        if (keyframe != null) {
+            simulation.restoreKeyframe(keyframe);
+            next = firstCommandFrom(commands, keyframe.tick());
+        }
+
+        while (!context.getGameState().gameOver && simulation.getTickCount() < tick) {
+            // Give every command from before this tick
+            while (next < commands.size() && commands.get(next).tick() <= simulation.getTickCount()) {
+                if (!simulation.execute(commands.get(next))) {
+                    failedCommands++;
+                }
+                next++;
+            }
+            // Handle the commands as they would have been before the tick was run
+            context.getEventBus().drain();
+
+            simulation.tick(replay.getStep());
+        }
+
+        return context;
+    }
+
+    /**
+     * Find the first command given on or after a tick.
+     *
+     * @param commands the commands, in order of tick.
+     * @param tick     the tick.
+     * @return the index of the command, or the number of commands if there are none.
+     */
+    private static int firstCommandFrom(List<PlayerCommand> commands, long tick) {
+        int low = 0;
+        int high = commands.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (commands.get(mid).tick() < tick) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the number of commands which could not be carried out in the last run.
+     * <p>
+     * If this is more than 0 the replay did not play out as it was recorded.
+     *
+     * @return the number of failed commands.
+     */
+    public int getFailedCommands() {
+        return failedCommands;
+    }
+
+    /**
+     * Check if the outcome of a finished game matches the outcome recorded in the replay.
+     *
+     * @param context the context of the finished game.
+     * @return whether the outcomes match, or true if the replay has no recorded outcome.
+     */
+    public boolean matchesRecording(GameContext context) {
+        Replay.Outcome recorded = replay.getOutcome();
+        return recorded == null || recorded.equals(Replay.Outcome.of(context));
+    }
+}
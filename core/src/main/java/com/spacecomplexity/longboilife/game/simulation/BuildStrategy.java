@@ -0,0 +1,18 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A way of playing the game without a player, used to run simulated games (such as in a batch for balancing).
+ */
+public interface BuildStrategy {
+    /**
+     * Decide what to do at this point of the game, building through {@link Simulation#build}.
+     * <p>
+     * This is called at a regular interval of simulated time throughout the game.
+     *
+     * @param simulation the simulation being played.
+     * @param rng        the random number generator to use for any decisions, so seeded games can be repeated.
+     */
+    void act(Simulation simulation, RandomGenerator rng);
+}
@@ -0,0 +1,135 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import com.spacecomplexity.longboilife.game.globals.Constants;
+
+/**
+ * Time series of the economy of a game, sampled at the end of every tick of the {@link Simulation}.
+ * <p>
+ * Samples are stored in a ring buffer of primitive arrays, so recording a sample never allocates. Once the ledger is
+ * full the oldest samples are overwritten.
+ */
+public class EconomyLedger {
+    /**
+     * The default number of samples kept, enough for a whole game at {@link SimulationClock#FIXED_STEP}.
+     */
+    public static final int DEFAULT_CAPACITY = Math.round(Constants.GAME_LENGTH / SimulationClock.FIXED_STEP) + 1;
+
+    private final long[] ticks;
+    private final double[] money;
+    private final double[] income;
+    private final double[] expenses;
+    private final double[] satisfaction;
+
+    // The slot the next sample is written to
+    private int head = 0;
+    private int size = 0;
+    // Incremented whenever the samples change, so anything drawn from the ledger knows when to update
+    private long version = 0;
+
+    /**
+     * Create an empty ledger.
+     *
+     * @param capacity the maximum number of samples kept.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public EconomyLedger(int capacity) throws IllegalArgumentException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ledger capacity must be positive: " + capacity);
+        }
+
+        ticks = new long[capacity];
+        money = new double[capacity];
+        income = new double[capacity];
+        expenses = new double[capacity];
+        satisfaction = new double[capacity];
+    }
+
+    /**
+     * Add a sample to the ledger, overwriting the oldest sample if the ledger is full.
+     *
+     * @param tick         the tick the sample was taken at.
+     * @param money        the amount of money the player had.
+     * @param income       the total money earned so far.
+     * @param expenses     the total money spent so far.
+     * @param satisfaction the satisfaction score.
+     */
+    public void record(long tick, double money, double income, double expenses, double satisfaction) {
+        ticks[head] = tick;
+        this.money[head] = money;
+        this.income[head] = income;
+        this.expenses[head] = expenses;
+        this.satisfaction[head] = satisfaction;
+
+        head = (head + 1) % ticks.length;
+        if (size < ticks.length) {
+            size++;
+        }
+        version++;
+    }
+
+    /**
+     * Remove every sample.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+        version++;
+    }
+
+    /**
+     * Convert the index of a sample to its slot in the arrays.
+     *
+     * @param index the index of the sample, where 0 is the oldest sample kept.
+     * @return the slot.
+     * @throws IndexOutOfBoundsException if there is no sample at this index.
+     */
+    private int slot(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Sample " + index + " out of bounds for ledger of " + size + " samples");
+        }
+
+        return (head - size + index + ticks.length) % ticks.length;
+    }
+
+    public long getTick(int index) {
+        return ticks[slot(index)];
+    }
+
+    public double getMoney(int index) {
+        return money[slot(index)];
+    }
+
+    public double getIncome(int index) {
+        return income[slot(index)];
+    }
+
+    public double getExpenses(int index) {
+        return expenses[slot(index)];
+    }
+
+    public double getSatisfaction(int index) {
+        return satisfaction[slot(index)];
+    }
+
+    /**
+     * Get the number of samples kept.
+     *
+     * @return the number of samples, at most the capacity.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return ticks.length;
+    }
+
+    /**
+     * Get a number which changes whenever a sample is recorded or the ledger is cleared.
+     *
+     * @return the version of the samples.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,153 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import java.util.PriorityQueue;
+
+/**
+ * Discrete event scheduler which runs actions at set points in simulated time.
+ * <p>
+ * Scheduled events are kept in a priority queue ordered by time, so finding the next event and running it costs
+ * {@code O(log n)} however many events are scheduled. Events scheduled for the same time are run in the order they
+ * were scheduled, so a simulation always plays out the same way.
+ * <p>
+ * Cancelled events are left in the queue and skipped when they reach the front, so cancelling is {@code O(1)}.
+ */
+public class EventScheduler {
+    /**
+     * An action scheduled to run at a point in simulated time.
+     */
+    public static class ScheduledEvent implements Comparable<ScheduledEvent> {
+        private final double time;
+        private final long sequence;
+        private final Runnable action;
+        private boolean cancelled = false;
+
+        private ScheduledEvent(double time, long sequence, Runnable action) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int compare = Double.compare(time, other.time);
+            if (compare != 0) {
+                return compare;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+
+        /**
+         * Get the time this event is scheduled for.
+         *
+         * @return the time (in seconds since the simulation started).
+         */
+        public double getTime() {
+            return time;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    // Once there are more cancelled events than this (and they make up most of the queue) they are removed
+    private static final int PURGE_THRESHOLD = 64;
+
+    private final PriorityQueue<ScheduledEvent> queue = new PriorityQueue<>();
+    private long nextSequence = 0;
+    private int cancelledCount = 0;
+
+    /**
+     * Schedule an action to run at a point in simulated time.
+     *
+     * @param time   the time to run the action (in seconds since the simulation started).
+     * @param action the action to run.
+     * @return the scheduled event, which can be used to cancel it.
+     */
+    public ScheduledEvent schedule(double time, Runnable action) {
+        ScheduledEvent event = new ScheduledEvent(time, nextSequence++, action);
+        queue.add(event);
+        return event;
+    }
+
+    /**
+     * Cancel a scheduled event so it is not run.
+     * <p>
+     * This does nothing if the event has already been run or cancelled.
+     *
+     * @param event the event to cancel, or null to do nothing.
+     */
+    public void cancel(ScheduledEvent event) {
+        if (event == null || event.cancelled) {
+            return;
+        }
+        event.cancelled = true;
+        cancelledCount++;
+
+        // If most of the queue is cancelled events remove them, so the queue does not grow forever
+        if (cancelledCount > PURGE_THRESHOLD && cancelledCount > queue.size() / 2) {
+            queue.removeIf(ScheduledEvent::isCancelled);
+            cancelledCount = 0;
+        }
+    }
+
+    /**
+     * Get the time of the next event to be run.
+     *
+     * @return the time (in seconds since the simulation started), or {@link Double#POSITIVE_INFINITY} if nothing is
+     * scheduled.
+     */
+    public double getNextTime() {
+        skipCancelled();
+        ScheduledEvent next = queue.peek();
+        return next == null ? Double.POSITIVE_INFINITY : next.time;
+    }
+
+    /**
+     * Run the next event if it is due.
+     *
+     * @param now the current time (in seconds since the simulation started).
+     * @return whether an event was run, if this is true there may be more events due.
+     */
+    public boolean runNext(double now) {
+        if (getNextTime() > now) {
+            return false;
+        }
+
+        ScheduledEvent event = queue.poll();
+        // Mark the event as done so cancelling it later does nothing
+        event.cancelled = true;
+        event.action.run();
+        return true;
+    }
+
+    /**
+     * Remove every scheduled event without running them.
+     */
+    public void clear() {
+        for (ScheduledEvent event : queue) {
+            event.cancelled = true;
+        }
+        queue.clear();
+        cancelledCount = 0;
+    }
+
+    /**
+     * Get the number of events waiting to run.
+     *
+     * @return the number of scheduled events which have not been cancelled.
+     */
+    public int size() {
+        return queue.size() - cancelledCount;
+    }
+
+    /**
+     * Remove cancelled events from the front of the queue.
+     */
+    private void skipCancelled() {
+        while (!queue.isEmpty() && queue.peek().cancelled) {
+            queue.poll();
+            cancelledCount--;
+        }
+    }
+}
@@ -0,0 +1,523 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.Arrays;
+import java.util.Vector;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.SatisfactionModifier;
+import com.spacecomplexity.longboilife.game.events.BuildingBuilt;
+import com.spacecomplexity.longboilife.game.events.BuildingDemolished;
+import com.spacecomplexity.longboilife.game.events.DirtyFlag;
+import com.spacecomplexity.longboilife.game.events.EventBus;
+import com.spacecomplexity.longboilife.game.globals.Constants;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.utils.EventHandler;
+import com.spacecomplexity.longboilife.game.utils.Events.GameEvent;
+import com.spacecomplexity.longboilife.game.utils.GameUtils;
+import com.spacecomplexity.longboilife.game.utils.Satisfaction;
+import com.spacecomplexity.longboilife.game.utils.Timer.SEASON;
+import com.spacecomplexity.longboilife.game.world.World;
+
+/**
+ * Class to manage the random game events (such as fires and weather) which occur during a {@link Simulation}.
+ * <p>
+ * Any messages to show the player are posted on the game's event bus rather than passed directly to the UI.
+ * <p>
+ * Each game event occurs randomly at a rate calculated from the state of the game, so the time until it next occurs
+ * is exponentially distributed. Rather than checking every event each second, the next occurrence of each event is
+ * sampled and put on the simulation's {@link EventScheduler}, so the simulation does no work for game events until one
+ * is due. When the state a rate depends on changes (the buildings in the world, or the season) the rates are
+ * recalculated and any event whose rate changed is sampled again from the current time, which is valid as the
+ * exponential distribution has no memory.
+ * <p>
+ * Each sample uses a new random number generator seeded from the game's event seed and the number of previous samples.
+ * This means the game events of a game can be continued from any point (such as a replay keyframe) knowing only the
+ * number of samples so far, as the state of a generator cannot be saved.
+ */
+public class GameEventManager {
+    /**
+     * The rate of a game event per second for each unit of its probability.
+     */
+    public static final double RATE_SCALE = Constants.EVENT_FREQUENCY / 1024;
+    
+    // Each season lasts a quarter of the game (in seconds)
+    private static final double SEASON_LENGTH = Constants.GAME_LENGTH / 4.0;
+    private static final SEASON[] SEASONS = SEASON.values();
+    
+    // The times (in seconds since the start) budget cuts become more likely, with 225 and 150 seconds left
+    private static final double BUDGET_CUT_MEDIUM_TIME = Constants.GAME_LENGTH - 225;
+    private static final double BUDGET_CUT_HIGH_TIME = Constants.GAME_LENGTH - 150;
+    
+    // The times (in seconds since the start) when rates depending on the time change
+    private static final double[] RATE_CHANGE_TIMES = DoubleStream.of(
+            SEASON_LENGTH,
+            SEASON_LENGTH * 2,
+            SEASON_LENGTH * 3,
+            BUDGET_CUT_MEDIUM_TIME,
+            BUDGET_CUT_HIGH_TIME
+        )
+        .filter(time -> time > 0 && time < Constants.GAME_LENGTH)
+        .distinct()
+        .sorted()
+        .toArray();
+    
+    private final GameState gameState;
+    private final EventHandler eventHandler;
+    private final Simulation simulation;
+    private final World world;
+    private final EventScheduler scheduler;
+    
+    private final long seed;
+    private long draws = 0;
+    
+    // The generator for the game event currently being run
+    private RandomGenerator rng;
+    
+    // The game events in a fixed order, so the same seed always gives the same events
+    private static final GameEvent[] GAME_EVENTS = GameEvent.values();
+    
+    // Functions calculating the relative probability of each game event, indexed by ordinal
+    private final DoubleSupplier[] probabilityCalcs = new DoubleSupplier[GAME_EVENTS.length];
+    
+    // The current rate of each game event and its next occurrence, indexed by ordinal
+    private final double[] rates = new double[GAME_EVENTS.length];
+    private final EventScheduler.ScheduledEvent[] scheduled = new EventScheduler.ScheduledEvent[GAME_EVENTS.length];
+    
+    // Recalculates the rates at most once per tick
+    private final DirtyFlag ratesDirty;
+    
+    GameEventManager(Simulation simulation, long seed) {
+        this.simulation = simulation;
+        this.world = simulation.getWorld();
+        this.gameState = simulation.getContext().getGameState();
+        this.eventHandler = simulation.getContext().getEventHandler();
+        this.scheduler = simulation.getScheduler();
+        this.seed = seed;
+        
+        initialiseEventProbabilities();
+        
+        // The rates of fires and accommodation events depend on the buildings in the world
+        EventBus eventBus = simulation.getContext().getEventBus();
+        ratesDirty = eventBus.createDirtyFlag("eventRates", this::updateRates);
+        eventBus.subscribe(BuildingBuilt.TYPE, (event) -> ratesDirty.mark());
+        eventBus.subscribe(BuildingDemolished.TYPE, (event) -> ratesDirty.mark());
+    }
+    
+    /**
+     * Recalculate the rate of every game event, sampling the next occurrence of any whose rate has changed.
+     */
+    private void updateRates() {
+        double now = simulation.getTime();
+        
+        for (int i = 0; i < GAME_EVENTS.length; i++) {
+            double rate = probabilityCalcs[i].getAsDouble() * RATE_SCALE;
+            if (rate == rates[i]) {
+                continue;
+            }
+            
+            rates[i] = rate;
+            scheduler.cancel(scheduled[i]);
+            scheduled[i] = null;
+            scheduleNext(i, now);
+        }
+    }
+    
+    /**
+     * Sample the next occurrence of a game event at its current rate and schedule it.
+     *
+     * @param index the ordinal of the game event.
+     * @param from  the time to sample from (in seconds since the start).
+     */
+    private void scheduleNext(int index, double from) {
+        // Events with no chance of occurring are not scheduled until their rate changes
+        if (rates[index] <= 0) {
+            return;
+        }
+        
+        double time = from + nextRng().nextExponential() / rates[index];
+        scheduleAt(index, time);
+    }
+    
+    private void scheduleAt(int index, double time) {
+        scheduled[index] = scheduler.schedule(time, () -> trigger(index, time));
+    }
+    
+    /**
+     * Call a game event which has become due, then schedule its next occurrence.
+     *
+     * @param index the ordinal of the game event.
+     * @param time  the time the event was scheduled for (in seconds since the start).
+     */
+    private void trigger(int index, double time) {
+        scheduled[index] = null;
+        
+        rng = nextRng();
+        eventHandler.callEvent(GAME_EVENTS[index]);
+        gameState.incrementEventCount();
+        
+        scheduleNext(index, time);
+    }
+    
+    /**
+     * Create the random number generator for the next sample.
+     *
+     * @return the generator.
+     */
+    private RandomGenerator nextRng() {
+        return new SplittableRandom(mixSeed(seed, draws++));
+    }
+    
+    /**
+     * Schedule the recalculation of rates at each time they change which is after a point.
+     *
+     * @param after the time to schedule from (in seconds since the start).
+     */
+    private void scheduleRateChanges(double after) {
+        for (double time : RATE_CHANGE_TIMES) {
+            if (time > after) {
+                scheduler.schedule(time, this::updateRates);
+            }
+        }
+    }
+    
+    /**
+     * Get the current season from the simulated time.
+     * <p>
+     * This uses the simulated time rather than the timer, so the rates recalculated at the start of a season always
+     * see the new season whatever the step size.
+     *
+     * @return the season.
+     */
+    private SEASON getSeason() {
+        int index = (int) (simulation.getTime() / SEASON_LENGTH);
+        return SEASONS[Math.min(Math.max(index, 0), SEASONS.length - 1)];
+    }
+    
+    private void initialiseEventProbabilities() {
+        probabilityCalcs[GameEvent.FIRE.ordinal()] = () -> {
+            // Get the amount of buildings in the world (excluding roads)
+            int buildingCount = getBuildingCount();
+            
+            if (buildingCount == 0) {
+                // No buildings to set on fire :(
+                return 0.0;
+            }
+            // Else return c * the square root of the building count
+            // Allows the probability of a fire to increase with building count but not get out of hand
+            return 0.75 * Math.sqrt(buildingCount);
+        };
+        
+        probabilityCalcs[GameEvent.WEATHER.ordinal()] = () -> {
+            SEASON season = getSeason();
+            if (season == SEASON.WINTER || season == SEASON.SUMMER) {
+                return 1.5;
+            }
+            
+            return 0.0;
+        };
+        
+        probabilityCalcs[GameEvent.DIRTY_BUILDING.ordinal()] = () -> {
+            // Check if the world currently has any accommodation buildings placed down
+            int accommodationCount = gameState.getCategoryCount(BuildingCategory.ACCOMMODATION);
+            
+            if (accommodationCount > 0) {
+                return 1.0 * accommodationCount;
+            }
+            
+            return 0.0;
+        };
+        
+        probabilityCalcs[GameEvent.HALF_PRICE.ordinal()] = () -> {
+            // Check if the world currently has any food buildings placed down
+            int foodCount = gameState.getCategoryCount(BuildingCategory.FOOD);
+            int accommodationCount = gameState.getCategoryCount(BuildingCategory.ACCOMMODATION);
+            
+            if (accommodationCount > 0 && foodCount > 0) {
+                return 2.0 * foodCount;
+            }
+            
+            return 0.0;
+        };
+        
+        probabilityCalcs[GameEvent.BUDGET_CUT.ordinal()] = () -> {
+            double time = simulation.getTime();
+            
+            // Budget cuts start off very unlikely and increase in likelyhood as the game progresses
+            // The boundaries are inclusive, so the rates recalculated at these times use the new tier
+            if (time >= BUDGET_CUT_HIGH_TIME) {
+                return 1.5;
+            }
+            else if (time >= BUDGET_CUT_MEDIUM_TIME) {
+                return 0.75;
+            }
+            return 0.2;
+        };
+    }
+    
+    void initialiseEvents() {
+        // Arson :)
+        eventHandler.createEvent(GameEvent.FIRE, () -> {
+            Vector<Building> buildings = getBuildings();
+            
+            if (buildings.isEmpty()) { 
+                // No buildings to set on fire :(
+                return;
+            }
+            
+            // Gets a random building (to be set on fire)
+            Building randomBuilding = buildings.get(rng.nextInt(0, buildings.size()));
+            
+            String message = "Oh no!" +
+                "\nA chemistry student set fire to a building (accidentally?)";
+            
+            // Checks if there are any roads adjacent to the building
+            // If there are then gives an advantage to the chance of firefighters saving the building
+            Boolean advantage = GameUtils.roadAdjacent(world, randomBuilding);
+            Boolean advantageRoll = false;
+            if (advantage) {
+                advantageRoll = rng.nextBoolean();
+            }
+            
+            // With advantage, this is essentially flipping two coins and winning if either is heads (true)
+            // Without advantage, its just a 50/50
+            Boolean buildingSaved = rng.nextBoolean() || advantageRoll;
+            
+            if (buildingSaved) {
+                message += "\n\nThankfully firefighters managed to arrive on the scene quick enough to put out the fire before any major damage occured." +
+                    "\nYay!";
+                simulation.notifyGameEvent(GameEvent.FIRE, message);
+                return;
+            }
+            else if (!buildingSaved && advantage) {
+                message += "\n\nDespite the best efforts of the firefighters, the fire moved too quickly, and the building was destroyed." +
+                    "\n\nYou lost a " + randomBuilding.getType().getDisplayName() + ".";
+            }
+            else {
+                message += "\n\nUnfortunately, the firefighters got really lost, and the building was destroyed before they could arrive." +
+                    "\n(Maybe they would have arrived quicker if the building was easier to access?)" +
+                    "\n\nYou lost a " + randomBuilding.getType().getDisplayName() + ".";
+            }
+            
+            // Notify listeners to show event popup
+            simulation.notifyGameEvent(GameEvent.FIRE, message);
+            
+            // Destroy building
+            world.demolish(randomBuilding);
+            simulation.getContext().getEventBus().enqueue(BuildingDemolished.TYPE, new BuildingDemolished(randomBuilding, BuildingDemolished.Reason.DESTROYED));
+        });
+        
+        eventHandler.createEvent(GameEvent.WEATHER, () -> {
+            String message = "";
+            SEASON season = getSeason();
+            
+            if (season == SEASON.WINTER) {
+                double averageDistance = Satisfaction.snowEventDistance(world);
+                
+                if (averageDistance <= 25) {
+                    message = "A light blanket of snow has fallen upon the campus." +
+                        "\nStudents are enjoying the picturesque view on short walks." +
+                        "\n\n+5% Student satisfaction.";
+                    
+                    Satisfaction.lightSnowEvent(world, simulation.getTime());
+                    simulation.scheduleSatisfactionExpiry(SatisfactionModifier.Source.SNOW);
+                    // Recalculate satisfaction score at the end of the tick
+                    simulation.markSatisfactionDirty();
+                }
+                else if (averageDistance > 50) {
+                    message = "A heavy blanket of snow has descended upon the campus." +
+                        "\nStudents are freezing cold during their long trip to the lecture halls." +
+                        "\n\n-5% Student satisfaction.";
+                    
+                    Satisfaction.heavySnowEvent(world, simulation.getTime());
+                    simulation.scheduleSatisfactionExpiry(SatisfactionModifier.Source.HEAVY_SNOW);
+                    // Recalculate satisfaction score at the end of the tick
+                    simulation.markSatisfactionDirty();
+                }
+                else {
+                    // The students have to travel pretty far in the snow but its not far enough for them to be upset, but nor is it short enough for them to be happy
+                    return;
+                }
+            }
+            
+            else if (season == SEASON.SUMMER) {
+                message = "A record breaking heatwave is sweeping across Britain!" + 
+                    "\nAuthorities advise everyone to stay inside and in the shade as much as possible." +
+                    "\nUnfortunately, lectures still need to be attended in-person." +
+                    "\n\n-5% Student satisfaction.";
+                
+                Satisfaction.heatwaveEvent(world, simulation.getTime());
+                simulation.scheduleSatisfactionExpiry(SatisfactionModifier.Source.HEATWAVE);
+                // Recalculate satisfaction score at the end of the tick
+                simulation.markSatisfactionDirty();
+            }
+            
+            // Notify listeners to show event popup
+            simulation.notifyGameEvent(GameEvent.WEATHER, message);
+        });
+        
+        eventHandler.createEvent(GameEvent.DIRTY_BUILDING, () -> {
+            String message = "The local students have been out partying *way* too much." +
+                "\nThey keep leaving their empty bottles of vodka all over the place!" +
+                "\nThe campus has never looked so unclean..." +
+                "\n\n-10% Satisfaction to one accommodation block.";
+            
+            // Notify listeners to show event popup
+            simulation.notifyGameEvent(GameEvent.DIRTY_BUILDING, message);
+            
+            // Adds a satisfaction reduction of 10% to any existing accommodation buildings that don't already have the reduction
+            Satisfaction.dirtyBuildingEvent(world, rng, simulation.getTime());
+            simulation.scheduleSatisfactionExpiry(SatisfactionModifier.Source.DRUNK_STUDENTS);
+            
+            // Recalculate satisfaction score at the end of the tick
+            simulation.markSatisfactionDirty();
+        });
+        
+        // Greggs sausage rolls my beloved <3
+        eventHandler.createEvent(GameEvent.HALF_PRICE, () -> {
+            String message = "Greggs™ have started a sale in York." +
+                "\nSausage rolls are now half-price!" +
+                "\nThe students are *very* happy." +
+                "\n\n+10% Student satisfaction.";
+            
+            // Notify listeners to show event popup
+            simulation.notifyGameEvent(GameEvent.HALF_PRICE, message);
+            
+            // Adds a satisfaction bonus of 10% to any existing accommodation buildings that don't already have the bonus
+            Satisfaction.halfPriceEvent(world, simulation.getTime());
+            simulation.scheduleSatisfactionExpiry(SatisfactionModifier.Source.HALF_PRICE);
+            
+            // Recalculate satisfaction score at the end of the tick
+            simulation.markSatisfactionDirty();
+        });
+        
+        // All my homies hate the government budget cuts
+        eventHandler.createEvent(GameEvent.BUDGET_CUT, () -> {
+            // Randomly picks between 50k, 75, and 100k to be lost
+            double amountCut = rng.nextInt(2, 5) * 25000;
+            
+            String message = 
+                "The government have cut funding from the education sector" +
+                "\n...again." +
+                "\n" +
+                "\n You have lost £" + String.format("%,.2f", amountCut) + ".";
+            
+            // Notify listeners to show event popup
+            simulation.notifyGameEvent(GameEvent.BUDGET_CUT, message);
+            
+            gameState.spend(amountCut);
+        });
+        
+        // Schedule the first occurrence of each event
+        Arrays.fill(rates, 0);
+        Arrays.fill(scheduled, null);
+        scheduleRateChanges(simulation.getTime());
+        updateRates();
+    }
+    
+    /**
+     * Get the number of random samples taken so far.
+     *
+     * @return the number of samples.
+     */
+    long getDraws() {
+        return draws;
+    }
+    
+    /**
+     * Get the current rate of each game event.
+     *
+     * @return the rates per second, indexed by ordinal.
+     */
+    double[] getRates() {
+        return Arrays.copyOf(rates, rates.length);
+    }
+    
+    /**
+     * Get the time each game event is next scheduled for.
+     *
+     * @return the times (in seconds since the start), or {@link Double#NaN} if the event is not scheduled, indexed by
+     * ordinal.
+     */
+    double[] getScheduledTimes() {
+        double[] times = new double[scheduled.length];
+        for (int i = 0; i < scheduled.length; i++) {
+            times[i] = scheduled[i] == null ? Double.NaN : scheduled[i].getTime();
+        }
+        return times;
+    }
+    
+    /**
+     * Restore the state of the game events, such as from a keyframe.
+     * <p>
+     * The scheduler should have been cleared first, as this schedules everything from the current time.
+     *
+     * @param draws the number of random samples taken.
+     * @param rates the rate of each game event, indexed by ordinal.
+     * @param times the time each game event is next scheduled for, or {@link Double#NaN} if not scheduled, indexed by
+     *              ordinal.
+     * @throws IllegalArgumentException if the arrays are not the length of the number of game events.
+     */
+    void restore(long draws, double[] rates, double[] times) throws IllegalArgumentException {
+        if (rates.length != GAME_EVENTS.length || times.length != GAME_EVENTS.length) {
+            throw new IllegalArgumentException("Expected state for " + GAME_EVENTS.length + " game events");
+        }
+        
+        this.draws = draws;
+        for (int i = 0; i < GAME_EVENTS.length; i++) {
+            this.rates[i] = rates[i];
+            scheduled[i] = null;
+            if (!Double.isNaN(times[i])) {
+                scheduleAt(i, times[i]);
+            }
+        }
+        
+        scheduleRateChanges(simulation.getTime());
+    }
+    
+    /**
+     * Mix a seed and a sample number into the seed for the sample's random number generator.
+     * <p>
+     * This uses the finaliser of SplitMix64 so consecutive samples get unrelated seeds, as generators created from
+     * consecutive seeds would give overlapping sequences.
+     *
+     * @param seed the game's event seed.
+     * @param draw the number of the sample.
+     * @return the seed for this sample.
+     */
+    private static long mixSeed(long seed, long draw) {
+        long z = seed + draw * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Get the number of buildings currently placed in the world, excluding roads.
+     * <p>
+     * This is read from the counts kept by the game state rather than scanning the world.
+     *
+     * @return the number of buildings.
+     */
+    private int getBuildingCount() {
+        return gameState.getTotalBuildingCount() - gameState.getCategoryCount(BuildingCategory.PATHWAY);
+    }
+    
+    /**
+     * Retrieves the list of buildings currently placed in the world.
+     * @return all buildings- excluding roads.
+     */
+    private Vector<Building> getBuildings() {
+        // Get all buildings (a new copy to ensure no pointer shenanigans)
+        Vector<Building> buildings = new Vector<Building>(world.getBuildings());
+        
+        // Remove roads
+        buildings.removeIf(building -> building.getType().getCategory() == BuildingCategory.PATHWAY);
+        
+        return buildings;
+    }
+}
@@ -0,0 +1,142 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+import com.spacecomplexity.longboilife.game.world.World;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy which tries to play like a sensible player.
+ * <p>
+ * It keeps a balance of accommodation and each category of utility building (as satisfaction rewards variety), and
+ * places utility buildings close to existing accommodation (as satisfaction decreases with distance).
+ */
+public class HeuristicBuildStrategy implements BuildStrategy {
+    /**
+     * The number of utility buildings of each category wanted per accommodation building.
+     */
+    public float utilitiesPerAccommodation = 1f;
+
+    /**
+     * The amount of money never spent, kept to cover budget cuts.
+     */
+    public float reserve = 100000;
+
+    /**
+     * The maximum distance from an accommodation building to place utility buildings (in tiles).
+     */
+    public int searchRadius = 20;
+
+    /**
+     * The number of random positions tried before giving up for this turn.
+     */
+    public int placementAttempts = 30;
+
+    private static final BuildingCategory[] UTILITY_CATEGORIES = {
+        BuildingCategory.EDUCATIONAL,
+        BuildingCategory.FOOD,
+        BuildingCategory.RECREATIONAL,
+    };
+
+    @Override
+    public void act(Simulation simulation, RandomGenerator rng) {
+        GameState gameState = simulation.getContext().getGameState();
+
+        // Count the number of buildings in each category
+        EnumMap<BuildingCategory, Integer> categoryCounts = new EnumMap<>(BuildingCategory.class);
+        for (BuildingCategory category : BuildingCategory.values()) {
+            categoryCounts.put(category, gameState.getCategoryCount(category));
+        }
+
+        // Find the utility category with the fewest buildings
+        BuildingCategory leastBuilt = UTILITY_CATEGORIES[0];
+        for (BuildingCategory category : UTILITY_CATEGORIES) {
+            if (categoryCounts.get(category) < categoryCounts.get(leastBuilt)) {
+                leastBuilt = category;
+            }
+        }
+
+        // Build accommodation if there are enough of every utility, otherwise fill in the missing utility
+        int accommodationCount = categoryCounts.get(BuildingCategory.ACCOMMODATION);
+        BuildingCategory toBuild = categoryCounts.get(leastBuilt) >= accommodationCount * utilitiesPerAccommodation
+            ? BuildingCategory.ACCOMMODATION
+            : leastBuilt;
+
+        BuildingType type = pickAffordable(toBuild, gameState.money - reserve, rng);
+        if (type == null) {
+            return;
+        }
+
+        place(simulation, type, rng);
+    }
+
+    /**
+     * Pick a random building type in a category which can be afforded.
+     *
+     * @param category the category of building.
+     * @param budget   the money available.
+     * @param rng      the random number generator to use.
+     * @return the building type, or null if none can be afforded.
+     */
+    private BuildingType pickAffordable(BuildingCategory category, float budget, RandomGenerator rng) {
+        List<BuildingType> affordable = new ArrayList<>();
+        for (BuildingType type : BuildingType.values()) {
+            if (type.getCategory() == category && type.getCost() <= budget) {
+                affordable.add(type);
+            }
+        }
+
+        if (affordable.isEmpty()) {
+            return null;
+        }
+
+        return affordable.get(rng.nextInt(affordable.size()));
+    }
+
+    /**
+     * Try to place a building near a random accommodation building, or anywhere if there is no accommodation.
+     *
+     * @param simulation the simulation to build in.
+     * @param type       the building to build.
+     * @param rng        the random number generator to use.
+     */
+    private void place(Simulation simulation, BuildingType type, RandomGenerator rng) {
+        World world = simulation.getWorld();
+        Vector2Int size = type.getSize();
+
+        // Find an accommodation building to build around
+        List<Building> accommodation = new ArrayList<>();
+        for (Building building : world.getBuildings()) {
+            if (building.getType().getCategory() == BuildingCategory.ACCOMMODATION) {
+                accommodation.add(building);
+            }
+        }
+        Building anchor = accommodation.isEmpty() ? null : accommodation.get(rng.nextInt(accommodation.size()));
+
+        for (int attempt = 0; attempt < placementAttempts; attempt++) {
+            Vector2Int position;
+            if (anchor != null) {
+                position = new Vector2Int(
+                    anchor.getPosition().x + rng.nextInt(2 * searchRadius + 1) - searchRadius,
+                    anchor.getPosition().y + rng.nextInt(2 * searchRadius + 1) - searchRadius
+                );
+            } else {
+                position = new Vector2Int(
+                    rng.nextInt(Math.max(1, world.getWidth() - size.x + 1)),
+                    rng.nextInt(Math.max(1, world.getHeight() - size.y + 1))
+                );
+            }
+
+            if (simulation.build(type, position)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+import com.spacecomplexity.longboilife.game.world.World;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Baseline strategy which builds random affordable buildings at random positions.
+ */
+public class RandomBuildStrategy implements BuildStrategy {
+    /**
+     * The number of random positions tried before giving up for this turn.
+     */
+    public int placementAttempts = 20;
+
+    @Override
+    public void act(Simulation simulation, RandomGenerator rng) {
+        GameState gameState = simulation.getContext().getGameState();
+        World world = simulation.getWorld();
+
+        // Pick a random building which is not a pathway
+        BuildingType[] types = BuildingType.values();
+        BuildingType type = types[rng.nextInt(types.length)];
+        if (type.getCategory() == BuildingCategory.PATHWAY || gameState.money < type.getCost()) {
+            return;
+        }
+
+        Vector2Int size = type.getSize();
+        for (int attempt = 0; attempt < placementAttempts; attempt++) {
+            Vector2Int position = new Vector2Int(
+                rng.nextInt(Math.max(1, world.getWidth() - size.x + 1)),
+                rng.nextInt(Math.max(1, world.getHeight() - size.y + 1))
+            );
+            if (simulation.build(type, position)) {
+                return;
+            }
+        }
+    }
+}
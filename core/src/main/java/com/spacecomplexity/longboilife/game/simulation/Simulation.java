@@ -0,0 +1,673 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.building.Building;
+import com.spacecomplexity.longboilife.game.building.BuildingModifiers;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.building.SatisfactionModifier;
+import com.spacecomplexity.longboilife.game.events.BuildingBuilt;
+import com.spacecomplexity.longboilife.game.events.BuildingDemolished;
+import com.spacecomplexity.longboilife.game.events.DirtyFlag;
+import com.spacecomplexity.longboilife.game.events.EventBus;
+import com.spacecomplexity.longboilife.game.events.GameEnded;
+import com.spacecomplexity.longboilife.game.events.GameEventTriggered;
+import com.spacecomplexity.longboilife.game.events.TickEnded;
+import com.spacecomplexity.longboilife.game.globals.Constants;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.replay.CommandLog;
+import com.spacecomplexity.longboilife.game.replay.Keyframe;
+import com.spacecomplexity.longboilife.game.replay.PlayerCommand;
+import com.spacecomplexity.longboilife.game.replay.ReplayRecorder;
+import com.spacecomplexity.longboilife.game.tile.Tile;
+import com.spacecomplexity.longboilife.game.utils.Events.GameEvent;
+import com.spacecomplexity.longboilife.game.utils.Satisfaction;
+import com.spacecomplexity.longboilife.game.utils.Timer;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+import com.spacecomplexity.longboilife.game.world.World;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Vector;
+
+/**
+ * The headless core of the game.
+ * <p>
+ * Runs the world, satisfaction, game events and economy with no dependencies on rendering or UI, so it can be run
+ * inside the game, with the libGDX headless backend, or from plain JVM code. Anything which needs to react to the
+ * simulation (such as showing popups) should do so by subscribing to the context's {@link EventBus}.
+ */
+public class Simulation {
+    private final GameContext context;
+    private final World world;
+    private final Timer timer;
+    private final GameState gameState;
+    private final EventBus eventBus;
+    private final EventScheduler scheduler = new EventScheduler();
+    private final GameEventManager gameEvents;
+    private final EconomyLedger ledger = new EconomyLedger(EconomyLedger.DEFAULT_CAPACITY);
+
+    // Recalculates the satisfaction score at most once per tick
+    private final DirtyFlag satisfactionDirty;
+
+    // The simulated time since the game started (in seconds)
+    private double time = 0;
+
+    // The number of ticks which have been started, used to timestamp player commands
+    private long tickCount = 0;
+    private final CommandLog commandLog = new CommandLog();
+    private ReplayRecorder recorder;
+
+    /**
+     * Create a simulation of the world in a game context.
+     * <p>
+     * This is done by {@link GameContext#setWorld(World)}. Game events are generated from the context's event seed,
+     * so a context with the same seed will have the same game events occur for the same player commands.
+     *
+     * @param context the context of the game to simulate.
+     */
+    public Simulation(GameContext context) {
+        this.context = context;
+        this.world = context.getWorld();
+        this.timer = context.getTimer();
+        this.gameState = context.getGameState();
+        this.eventBus = context.getEventBus();
+
+        gameEvents = new GameEventManager(this, context.getEventSeed());
+
+        // Satisfaction depends on the layout of the buildings, so recalculate it whenever this changes
+        // This flag is created with the simulation so it is always run before anything depending on satisfaction
+        satisfactionDirty = eventBus.createDirtyFlag("satisfaction", () -> Satisfaction.updateSatisfactionScore(world, gameState));
+        eventBus.subscribe(BuildingBuilt.TYPE, (event) -> satisfactionDirty.mark());
+        eventBus.subscribe(BuildingDemolished.TYPE, (event) -> satisfactionDirty.mark());
+    }
+
+    /**
+     * Start a new game, setting the timer and scheduling the end of the game and the game events.
+     */
+    public void start() {
+        scheduler.clear();
+        time = 0;
+        tickCount = 0;
+
+        // Create a new timer for the length of the game, this is only used to show the time left
+        timer.setTimer(Constants.GAME_LENGTH * 1000);
+        // The end of the game is scheduled first, so it runs before any other event at the same time
+        scheduler.schedule(Constants.GAME_LENGTH, this::endGame);
+
+        gameEvents.initialiseEvents();
+
+        // Calculate the satisfaction of any buildings already in the world
+        Satisfaction.updateSatisfactionScore(world, gameState);
+
+        ledger.clear();
+        sampleLedger();
+
+        gameState.active = true;
+    }
+
+    /**
+     * Advance the simulation by an amount of simulated time.
+     * <p>
+     * This updates the game timer, runs any scheduled events which have become due (such as game events or the end of
+     * the game) and accrues profit from buildings. Finally any events queued during the tick (or since the last tick)
+     * are dispatched on the event bus, any derived state they invalidated (such as the satisfaction score) is
+     * recalculated once, the economy is sampled into the {@link EconomyLedger} and {@link TickEnded} is posted.
+     *
+     * @param delta the time passed in seconds.
+     */
+    public void tick(float delta) {
+        if (!isRunning()) {
+            return;
+        }
+        tickCount++;
+        time += delta;
+        timer.update(delta);
+
+        // Run every scheduled event which is now due, stopping if one ends the game
+        while (!gameState.gameOver && scheduler.runNext(time)) {
+            // Each call runs a single event, so events scheduled by another event are also run if they are due
+        }
+        if (gameState.gameOver) {
+            return;
+        }
+
+        // Update profit timer
+        gameState.updateProfitTimer(delta);
+        while (gameState.getProfitTimer() >= GameState.PROFIT_INTERVAL) {
+            // Add profit from all buildings to money, adjusted for any buildings with income modifiers
+            gameState.earn(gameState.getProfitPerInterval() + world.getModifiers().getProfitAdjustment());
+
+            // Reset timer
+            gameState.updateProfitTimer(-GameState.PROFIT_INTERVAL);
+        }
+
+        // Handle everything which happened this tick
+        eventBus.drain();
+
+        sampleLedger();
+
+        // Nothing is posted if nothing is listening, such as when the simulation is run without the game
+        if (eventBus.hasListeners(TickEnded.TYPE)) {
+            eventBus.post(TickEnded.TYPE, TickEnded.INSTANCE);
+        }
+
+        if (recorder != null) {
+            recorder.tickEnded(this);
+        }
+    }
+
+    /**
+     * Build a new building, charging for it.
+     * <p>
+     * The satisfaction score is updated at the end of the next tick.
+     *
+     * @param buildingType the building to build.
+     * @param position     the position of the bottom left of the building.
+     * @return whether the building could be afforded and built here.
+     */
+    public boolean build(BuildingType buildingType, Vector2Int position) {
+        float cost = buildingType.getCost();
+        if (gameState.money < cost || !world.canBuild(buildingType, position)) {
+            return false;
+        }
+
+        Building building = new Building(buildingType, new Vector2Int(position.x, position.y));
+        world.build(building);
+        gameState.spend(cost);
+
+        recordCommand(PlayerCommand.Type.BUILD, buildingType, position);
+        eventBus.enqueue(BuildingBuilt.TYPE, new BuildingBuilt(building, false));
+
+        return true;
+    }
+
+    /**
+     * Sell a building, refunding part of its cost.
+     *
+     * @param building the building to sell.
+     */
+    public void sell(Building building) {
+        float refund = building.getType().getCost() * Constants.sellCostRecovery;
+
+        world.demolish(building);
+        gameState.earn(refund);
+
+        recordCommand(PlayerCommand.Type.SELL, null, building.getPosition());
+        eventBus.enqueue(BuildingDemolished.TYPE, new BuildingDemolished(building, BuildingDemolished.Reason.SOLD));
+    }
+
+    /**
+     * Pick up a building to move it, removing it from the world and setting it as the game state's
+     * {@link GameState#movingBuilding}.
+     * <p>
+     * The move is only paid for when the building is placed, but the player must be able to afford it to start.
+     *
+     * @param building the building to move.
+     * @return whether the move could be afforded.
+     * @throws IllegalStateException if a building is already being moved.
+     */
+    public boolean pickUpBuilding(Building building) throws IllegalStateException {
+        if (gameState.movingBuilding != null) {
+            throw new IllegalStateException("A building is already being moved");
+        }
+
+        float cost = building.getType().getCost() * Constants.moveCostRecovery;
+        if (gameState.money < cost) {
+            return false;
+        }
+
+        world.demolish(building);
+        gameState.movingBuilding = building;
+
+        recordCommand(PlayerCommand.Type.PICK_UP, null, building.getPosition());
+        eventBus.enqueue(BuildingDemolished.TYPE, new BuildingDemolished(building, BuildingDemolished.Reason.MOVING));
+
+        return true;
+    }
+
+    /**
+     * Place the building being moved at a new position, charging for the move.
+     *
+     * @param position the position of the bottom left of the building.
+     * @return whether the move could be afforded and the building placed here.
+     * @throws IllegalStateException if no building is being moved.
+     */
+    public boolean placeMovingBuilding(Vector2Int position) throws IllegalStateException {
+        Building building = gameState.movingBuilding;
+        if (building == null) {
+            throw new IllegalStateException("No building is being moved");
+        }
+
+        float cost = building.getType().getCost() * Constants.moveCostRecovery;
+        if (gameState.money < cost || !world.canBuild(building.getType(), position)) {
+            return false;
+        }
+
+        world.build(building, position);
+        gameState.spend(cost);
+        gameState.movingBuilding = null;
+
+        recordCommand(PlayerCommand.Type.PLACE, null, position);
+        eventBus.enqueue(BuildingBuilt.TYPE, new BuildingBuilt(building, true));
+
+        return true;
+    }
+
+    /**
+     * Cancel the move of the building being moved, putting it back where it was picked up from for free.
+     *
+     * @throws IllegalStateException if no building is being moved.
+     */
+    public void cancelMove() throws IllegalStateException {
+        Building building = gameState.movingBuilding;
+        if (building == null) {
+            throw new IllegalStateException("No building is being moved");
+        }
+
+        world.build(building);
+        gameState.movingBuilding = null;
+
+        recordCommand(PlayerCommand.Type.CANCEL_MOVE, null, null);
+        eventBus.enqueue(BuildingBuilt.TYPE, new BuildingBuilt(building, true));
+    }
+
+    /**
+     * Multiply the profit of a building for a length of time, replacing any income modifier it already has.
+     *
+     * @param building   the building, which must have been built.
+     * @param multiplier the amount to multiply the building's profit by.
+     * @param duration   the length of time until the modifier expires (in seconds).
+     */
+    void applyIncomeModifier(Building building, double multiplier, double duration) {
+        double expiry = time + duration;
+        world.getModifiers().setIncomeModifier(building.getId(), multiplier, expiry);
+        scheduleIncomeExpiry(building.getId(), expiry);
+    }
+
+    /**
+     * Schedule the removal of an income modifier when it expires.
+     *
+     * @param id     the id of the building.
+     * @param expiry the time the modifier expires (in seconds since the game started).
+     */
+    private void scheduleIncomeExpiry(int id, double expiry) {
+        scheduler.schedule(expiry, () -> {
+            BuildingModifiers modifiers = world.getModifiers();
+            // Only remove the modifier if it has not been replaced by a later one
+            if (modifiers.getIncomeExpiry(id) == expiry) {
+                modifiers.clearIncomeModifier(id);
+            }
+        });
+    }
+
+    /**
+     * Schedule the removal of the satisfaction modifiers a game event has just applied, when they expire.
+     *
+     * @param source the source of the modifiers.
+     */
+    void scheduleSatisfactionExpiry(SatisfactionModifier.Source source) {
+        scheduleSatisfactionExpiry(source, time);
+    }
+
+    /**
+     * Schedule the removal of the satisfaction modifiers from a source which were applied at a time.
+     *
+     * @param source    the source of the modifiers.
+     * @param startTime the time the modifiers were applied (in seconds since the game started).
+     */
+    private void scheduleSatisfactionExpiry(SatisfactionModifier.Source source, double startTime) {
+        scheduler.schedule(startTime + source.getDuration(), () -> {
+            // Only the modifiers applied at this time are removed, so a later modifier from the same source is kept
+            for (Building building : world.getBuildings()) {
+                removeSatisfactionModifier(building, source, startTime);
+            }
+            if (gameState.movingBuilding != null) {
+                removeSatisfactionModifier(gameState.movingBuilding, source, startTime);
+            }
+        });
+    }
+
+    /**
+     * Remove a satisfaction modifier from a building, if it still has it.
+     *
+     * @param building  the building.
+     * @param source    the source of the modifier.
+     * @param startTime the time the modifier was applied (in seconds since the game started).
+     */
+    private void removeSatisfactionModifier(Building building, SatisfactionModifier.Source source, double startTime) {
+        if (!building.removeSatisfactionModifier(source, startTime)) {
+            return;
+        }
+
+        // Total the remaining modifiers in the order they were applied, the same as when restoring a keyframe
+        double delta = 0;
+        for (SatisfactionModifier modifier : building.getSatisfactionModifiers()) {
+            delta += modifier.value();
+        }
+        world.getModifiers().setSatisfactionDelta(building.getId(), delta);
+        markSatisfactionDirty();
+    }
+
+    /**
+     * Add a command to the command log, and to the replay being recorded if there is one.
+     *
+     * @param type         the type of command.
+     * @param buildingType the type of building built, or null if not a {@link PlayerCommand.Type#BUILD}.
+     * @param position     the position the command acted on, or null if it did not act on a position.
+     */
+    private void recordCommand(PlayerCommand.Type type, BuildingType buildingType, Vector2Int position) {
+        PlayerCommand command = commandLog.record(tickCount, type, buildingType, position);
+        if (recorder != null) {
+            recorder.recordCommand(command);
+        }
+    }
+
+    /**
+     * Capture the full state of the simulation.
+     * <p>
+     * This should only be called between ticks, when there are no events waiting to be handled.
+     *
+     * @return the keyframe of the current state.
+     */
+    public Keyframe createKeyframe() {
+        Vector<Building> buildings = world.getBuildings();
+        BuildingModifiers modifiers = world.getModifiers();
+        List<Keyframe.BuildingState> buildingStates = new ArrayList<>(buildings.size());
+        for (Building building : buildings) {
+            buildingStates.add(Keyframe.BuildingState.of(building, modifiers));
+        }
+
+        return new Keyframe(
+            tickCount,
+            time,
+            gameEvents.getDraws(),
+            gameEvents.getRates(),
+            gameEvents.getScheduledTimes(),
+            timer.getExactTimeLeft(),
+            gameState.money,
+            gameState.getTotalIncome(),
+            gameState.getTotalExpenses(),
+            gameState.satisfactionScore,
+            gameState.getProfitTimer(),
+            gameState.getTotalEvents(),
+            buildingStates,
+            gameState.movingBuilding == null ? null : Keyframe.BuildingState.of(gameState.movingBuilding, modifiers)
+        );
+    }
+
+    /**
+     * Restore the simulation to the state captured in a keyframe.
+     * <p>
+     * The simulation must have been started with {@link Simulation#start()} on the same map the keyframe was created
+     * on. Every building in the world is replaced with those in the keyframe.
+     *
+     * @param keyframe the keyframe to restore.
+     */
+    public void restoreKeyframe(Keyframe keyframe) {
+        // Remove every building, from the end so the world does not need to shift its list
+        Vector<Building> buildings = world.getBuildings();
+        for (int i = buildings.size() - 1; i >= 0; i--) {
+            world.demolish(buildings.get(i));
+        }
+
+        // Then rebuild the buildings in the same order they were stored, as game events depend on this order
+        // Every building is given a new id, so the modifiers of the old buildings are forgotten
+        BuildingModifiers modifiers = world.getModifiers();
+        modifiers.clear();
+        for (Keyframe.BuildingState state : keyframe.buildings()) {
+            Building building = state.toBuilding();
+            world.build(building);
+            restoreModifiers(building.getId(), state);
+        }
+        gameState.movingBuilding = null;
+        if (keyframe.movingBuilding() != null) {
+            gameState.movingBuilding = keyframe.movingBuilding().toBuilding();
+            gameState.movingBuilding.setId(modifiers.allocate());
+            restoreModifiers(gameState.movingBuilding.getId(), keyframe.movingBuilding());
+        }
+
+        gameState.money = keyframe.money();
+        gameState.setTotals(keyframe.totalIncome(), keyframe.totalExpenses());
+        gameState.satisfactionScore = keyframe.satisfactionScore();
+        gameState.setProfitTimer(keyframe.profitTimer());
+        gameState.totalEvents = keyframe.totalEvents();
+        timer.setTimeLeft(keyframe.timeLeft());
+
+        tickCount = keyframe.tick();
+        time = keyframe.time();
+
+        // Schedule everything again from the keyframe's time
+        scheduler.clear();
+        scheduler.schedule(Constants.GAME_LENGTH, this::endGame);
+        gameEvents.restore(keyframe.eventDraws(), keyframe.eventRates(), keyframe.eventTimes());
+        scheduleRestoredExpiries();
+
+        // The history before the keyframe is not known, so start the ledger again from here
+        ledger.clear();
+        sampleLedger();
+    }
+
+    /**
+     * Add the current state of the economy to the ledger.
+     */
+    private void sampleLedger() {
+        ledger.record(
+            tickCount,
+            gameState.money,
+            gameState.getTotalIncome(),
+            gameState.getTotalExpenses(),
+            gameState.satisfactionScore
+        );
+    }
+
+    /**
+     * Set the modifiers of a restored building from its state in a keyframe.
+     *
+     * @param id    the id of the building.
+     * @param state the state of the building.
+     */
+    private void restoreModifiers(int id, Keyframe.BuildingState state) {
+        BuildingModifiers modifiers = world.getModifiers();
+        // Add the modifiers in the order they were applied, so the total is exactly the same
+        for (SatisfactionModifier modifier : state.satisfactionModifiers()) {
+            modifiers.addSatisfactionDelta(id, modifier.value());
+        }
+        if (!Double.isNaN(state.incomeExpiry())) {
+            modifiers.setIncomeModifier(id, state.incomeMultiplier(), state.incomeExpiry());
+        }
+    }
+
+    /**
+     * Schedule the expiry of every modifier, after they have been restored from a keyframe.
+     */
+    private void scheduleRestoredExpiries() {
+        BuildingModifiers modifiers = world.getModifiers();
+        for (int id = 0; id < modifiers.size(); id++) {
+            double expiry = modifiers.getIncomeExpiry(id);
+            if (!Double.isNaN(expiry)) {
+                scheduleIncomeExpiry(id, expiry);
+            }
+        }
+
+        // Each game event's satisfaction modifiers expire together, so only schedule each once
+        // These are kept in the order they were found so they are always scheduled in the same order
+        LinkedHashSet<SatisfactionModifier> satisfactionModifiers = new LinkedHashSet<>();
+        for (Building building : world.getBuildings()) {
+            satisfactionModifiers.addAll(building.getSatisfactionModifiers());
+        }
+        if (gameState.movingBuilding != null) {
+            satisfactionModifiers.addAll(gameState.movingBuilding.getSatisfactionModifiers());
+        }
+        for (SatisfactionModifier modifier : satisfactionModifiers) {
+            scheduleSatisfactionExpiry(modifier.source(), modifier.startTime());
+        }
+    }
+
+    /**
+     * Carry out a previously recorded command, such as when playing a replay.
+     *
+     * @param command the command to carry out.
+     * @return whether the command succeeded, if this is false then the game has not played out as when recorded.
+     */
+    public boolean execute(PlayerCommand command) {
+        switch (command.type()) {
+            case BUILD:
+                return build(command.buildingType(), command.getPosition());
+            case SELL:
+            case PICK_UP:
+                // Find the building at this position
+                Building building = findBuilding(command.getPosition());
+                if (building == null) {
+                    return false;
+                }
+
+                if (command.type() == PlayerCommand.Type.SELL) {
+                    sell(building);
+                    return true;
+                }
+                return gameState.movingBuilding == null && pickUpBuilding(building);
+            case PLACE:
+                return gameState.movingBuilding != null && placeMovingBuilding(command.getPosition());
+            case CANCEL_MOVE:
+                if (gameState.movingBuilding == null) {
+                    return false;
+                }
+                cancelMove();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Find the building whose bottom left is at a position.
+     *
+     * @param position the position of the building.
+     * @return the building, or null if there is no building with its bottom left here.
+     */
+    private Building findBuilding(Vector2Int position) {
+        Tile tile = world.getTile(position);
+        if (tile == null) {
+            return null;
+        }
+
+        Building building = tile.getBuildingRef();
+        if (building == null || !building.getPosition().equals(position)) {
+            return null;
+        }
+
+        return building;
+    }
+
+    /**
+     * Whether the simulation is currently running, i.e. the game is active and not paused or over.
+     *
+     * @return whether calls to {@link Simulation#tick(float)} will advance the simulation.
+     */
+    public boolean isRunning() {
+        return gameState.active && !gameState.paused && !gameState.gameOver;
+    }
+
+    /**
+     * End the game and post {@link GameEnded} to the event bus.
+     * <p>
+     * This is called automatically when the timer runs out.
+     */
+    public void endGame() {
+        // Make sure the final state of the game is up to date before it is shown
+        eventBus.drain();
+
+        gameState.gameOver = true;
+        gameState.active = false;
+
+        eventBus.post(GameEnded.TYPE, GameEnded.INSTANCE);
+    }
+
+    /**
+     * Queue on the event bus that a game event has occurred.
+     *
+     * @param event   the game event which occurred.
+     * @param message the message describing what happened.
+     */
+    void notifyGameEvent(GameEvent event, String message) {
+        eventBus.enqueue(GameEventTriggered.TYPE, new GameEventTriggered(event, message));
+    }
+
+    /**
+     * Mark the satisfaction score as needing to be recalculated at the end of this tick.
+     * <p>
+     * This should be used rather than recalculating it directly, so it is only recalculated once however many changes
+     * are made in a tick.
+     */
+    void markSatisfactionDirty() {
+        satisfactionDirty.mark();
+    }
+
+    public GameContext getContext() {
+        return context;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Get the scheduler which runs events at points in simulated time.
+     *
+     * @return the scheduler.
+     */
+    public EventScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Get the simulated time since the game started.
+     *
+     * @return the time (in seconds).
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * Get the ledger of the economy, which is sampled at the end of every tick.
+     *
+     * @return the ledger.
+     */
+    public EconomyLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Get the number of ticks which have been started since the game started.
+     *
+     * @return the number of ticks.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Set the replay recorder which every command and tick is reported to.
+     *
+     * @param recorder the recorder, or null to stop recording.
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Get the log of every command the player has given, which along with the context's seed can be used to replay
+     * the game.
+     *
+     * @return the command log.
+     */
+    public CommandLog getCommandLog() {
+        return commandLog;
+    }
+}
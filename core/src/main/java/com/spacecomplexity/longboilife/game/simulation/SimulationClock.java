@@ -0,0 +1,146 @@
+package com.spacecomplexity.longboilife.game.simulation;
+
+/**
+ * Fixed timestep clock which drives a {@link Simulation} from real time.
+ * <p>
+ * Real time is measured with {@link System#nanoTime()} (which is monotonic) and accumulated, scaled by the current
+ * {@link Speed}. The simulation is then advanced in steps of exactly {@link SimulationClock#FIXED_STEP}, so the result
+ * of a game does not depend on the frame rate or speed it was played at.
+ * <p>
+ * The speed is read from the game state's
+ * {@link com.spacecomplexity.longboilife.game.globals.GameState#simulationSpeed} each frame.
+ */
+public class SimulationClock {
+    /**
+     * The amount of simulated time advanced by each tick of the simulation (in seconds).
+     */
+    public static final float FIXED_STEP = 1f / 60;
+
+    /**
+     * The maximum amount of real time processed per call to {@link SimulationClock#advance()} (in seconds).
+     * <p>
+     * Any time above this is dropped, this stops the simulation trying to catch up after long frames (such as window
+     * dragging or breakpoints) and then causing even longer frames.
+     */
+    public static final float MAX_FRAME_TIME = 0.25f;
+
+    /**
+     * The amount of real time spent running the simulation per call to {@link SimulationClock#advance()} when
+     * running at {@link Speed#MAX} (in nanoseconds).
+     * <p>
+     * This leaves time in each frame to render so the game stays responsive.
+     */
+    public static final long MAX_SPEED_BUDGET = 12_000_000L;
+
+    /**
+     * The speeds the simulation can run at.
+     */
+    public enum Speed {
+        X1(1, "1x"),
+        X2(2, "2x"),
+        X4(4, "4x"),
+        X16(16, "16x"),
+        /**
+         * Run as many ticks as possible within {@link SimulationClock#MAX_SPEED_BUDGET} each frame.
+         */
+        MAX(0, "Max"),
+        ;
+
+        private final int multiplier;
+        private final String displayName;
+
+        Speed(int multiplier, String displayName) {
+            this.multiplier = multiplier;
+            this.displayName = displayName;
+        }
+
+        /**
+         * Get the speed after this one, wrapping back to {@link Speed#X1} after {@link Speed#MAX}.
+         *
+         * @return the next speed.
+         */
+        public Speed next() {
+            Speed[] speeds = values();
+            return speeds[(ordinal() + 1) % speeds.length];
+        }
+
+        public int getMultiplier() {
+            return multiplier;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private final Simulation simulation;
+
+    private long lastTime;
+    private double accumulator;
+
+    /**
+     * Create a clock to drive a simulation.
+     *
+     * @param simulation the simulation to advance.
+     */
+    public SimulationClock(Simulation simulation) {
+        this.simulation = simulation;
+
+        reset();
+    }
+
+    /**
+     * Forget any real time which has passed since the last advance.
+     * <p>
+     * This should be called when the game is resumed so time spent away from the game (such as in the menu) is not
+     * simulated.
+     */
+    public void reset() {
+        lastTime = System.nanoTime();
+        accumulator = 0;
+    }
+
+    /**
+     * Advance the simulation by the real time which has passed since the last call, scaled by the current speed.
+     * <p>
+     * This should be called once per frame.
+     *
+     * @return the number of ticks the simulation was advanced by.
+     */
+    public int advance() {
+        long now = System.nanoTime();
+        double elapsed = Math.min((now - lastTime) / 1e9, MAX_FRAME_TIME);
+        lastTime = now;
+
+        // Don't build up time while the game is paused or over
+        if (!simulation.isRunning()) {
+            accumulator = 0;
+            return 0;
+        }
+
+        Speed speed = simulation.getContext().getGameState().simulationSpeed;
+        int ticks = 0;
+
+        // At max speed run ticks until we run out of time this frame
+        if (speed == Speed.MAX) {
+            accumulator = 0;
+            while (simulation.isRunning() && System.nanoTime() - now < MAX_SPEED_BUDGET) {
+                simulation.tick(FIXED_STEP);
+                ticks++;
+            }
+
+            return ticks;
+        }
+
+        // Otherwise run however many fixed steps fit in the scaled elapsed time
+        // Leftover time is kept for the next frame
+        accumulator += elapsed * speed.getMultiplier();
+        while (accumulator >= FIXED_STEP) {
+            simulation.tick(FIXED_STEP);
+            accumulator -= FIXED_STEP;
+            ticks++;
+        }
+
+        return ticks;
+    }
+}
@@ -1,30 +1,44 @@
 package com.spacecomplexity.longboilife.game.tile;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.spacecomplexity.longboilife.game.globals.AssetHandle;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 
 /**
  * Contains a list of all tile types, including there default data.
  */
 public enum TileType {
-    GRASS(new Texture("tiles/grass.png"), true),
-    WATER(new Texture("tiles/water.png"), false),
+    GRASS("tiles/grass.png", true),
+    WATER("tiles/water.png", false),
     ;
 
-    private final Texture texture;
+    private final AssetHandle<Texture> texture;
     private final boolean isNaturallyBuildable;
 
     /**
      * Constructor to create a {@link TileType} with specified attributes.
      *
-     * @param texture              the texture representing the tile.
+     * @param texturePath          the internal path of the texture representing the tile.
      * @param isNaturallyBuildable a boolean indicating if the tile can be built on.
      */
-    TileType(Texture texture, boolean isNaturallyBuildable) {
-        this.texture = texture;
+    TileType(String texturePath, boolean isNaturallyBuildable) {
+        this.texture = new AssetHandle<>(texturePath, Texture.class);
         this.isNaturallyBuildable = isNaturallyBuildable;
     }
 
+    /**
+     * Get the texture representing the tile.
+     * <p>
+     * The texture is only loaded on first use (unless it has already been loaded by {@link Assets}) so that tile data
+     * can be used without a graphics context (such as in a headless simulation).
+     *
+     * @return the texture representing the tile.
+     */
     public Texture getTexture() {
+        return texture.get();
+    }
+
+    public AssetHandle<Texture> getTextureHandle() {
         return texture;
     }
 
@@ -36,13 +50,4 @@ public enum TileType {
     public boolean isNaturallyBuildable() {
         return isNaturallyBuildable;
     }
-
-    /**
-     * Will dispose of the all loaded assets (like textures).
-     * <p>
-     * <strong>Warning:</strong> Once disposed of no attributes will be able to be reloaded, which could lead to undefined behaviour.
-     */
-    public void dispose() {
-        texture.dispose();
-    }
 }
@@ -3,6 +3,7 @@ package com.spacecomplexity.longboilife.game.ui;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 
 /**
  * Abstract class to represent a UI element block.
@@ -12,6 +13,7 @@ public abstract class UIElement {
     protected Table table;
     protected Table parentTable;
     protected final Skin skin;
+    protected final GameContext context;
 
     /**
      * Initialise base UI elements
@@ -19,11 +21,13 @@ public abstract class UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIElement(Viewport uiViewport, Table parentTable, Skin skin) {
+    public UIElement(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
         this.uiViewport = uiViewport;
         this.parentTable = parentTable;
         this.skin = skin;
+        this.context = context;
 
         // Initialise table container
         table = new Table(skin);
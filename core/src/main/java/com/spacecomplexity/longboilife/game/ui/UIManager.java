@@ -2,8 +2,6 @@ package com.spacecomplexity.longboilife.game.ui;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputMultiplexer;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -12,6 +10,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.spacecomplexity.longboilife.game.globals.Window;
 import com.spacecomplexity.longboilife.game.ui.game.*;
@@ -34,12 +34,17 @@ public class UIManager {
     private UIElement[] uiElements;
     private UIEventPopup eventPopup;
 
+    private final GameContext context;
+
     /**
      * Initialise UI elements needed for the game.
      *
      * @param inputMultiplexer to add the UI events to the input processing
+     * @param context          the context of the game this UI is for.
      */
-    public UIManager(InputMultiplexer inputMultiplexer) {
+    public UIManager(InputMultiplexer inputMultiplexer, GameContext context) {
+        this.context = context;
+
         // Initialise viewport for rescaling
         viewport = new ScalingViewport(Scaling.fit, Window.DEFAULT_WIDTH, Window.DEFAULT_HEIGHT);
 
@@ -52,61 +57,43 @@ public class UIManager {
         table.setFillParent(true);
         stage.addActor(table);
 
-        // Load external UI skin
-        skin = new Skin(Gdx.files.internal("ui/skin/uiskin.json"));
-
-        // Load external font
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("ui/fonts/Roboto-Medium.ttf"));
-        // Generate a bitmap font for size 12
-        BitmapFont ourFont12 = generator.generateFont(new FreeTypeFontGenerator.FreeTypeFontParameter() {{
-            size = 12;
-        }});
-        // Generate a bitmap font for size 14
-        BitmapFont ourFont16 = generator.generateFont(new FreeTypeFontGenerator.FreeTypeFontParameter() {{
-            size = 14;
-        }});
-        generator.dispose();
+        // Copy the UI skin, as its fonts are changed below
+        skin = Assets.newSkin();
 
         // Set skins font to our font
-        skin.get("default", Label.LabelStyle.class).font = ourFont12;
-        skin.get("default", TextButton.TextButtonStyle.class).font = ourFont16;
+        skin.get("default", Label.LabelStyle.class).font = Assets.getFont(Assets.UI_FONT, 12);
+        skin.get("default", TextButton.TextButtonStyle.class).font = Assets.getFont(Assets.UI_FONT, 14);
 
         // Create our UI elements
         // Note: The order of these is the order that they will be rendered
-        eventPopup = new UIEventPopup(viewport, table, skin);
+        eventPopup = new UIEventPopup(viewport, table, skin, context);
         uiElements = new UIElement[]{
             eventPopup,
-            new UITooltip(viewport, table, skin),
-            new UIBuildingSelectedMenu(viewport, table, skin),
-            new UIBottomMenu(viewport, table, skin),
-            new UIClockMenu(viewport, table, skin),
-            new UISatisfactionMenu(viewport, table, skin),
-            new UIMoneyMenu(viewport, table, skin),
-            new UIBuildingCounter(viewport, table, skin),
+            new UITooltip(viewport, table, skin, context),
+            new UIBuildingSelectedMenu(viewport, table, skin, context),
+            new UIBottomMenu(viewport, table, skin, context),
+            new UIClockMenu(viewport, table, skin, context),
+            new UISatisfactionMenu(viewport, table, skin, context),
+            new UIMoneyMenu(viewport, table, skin, context),
+            new UIEconomyGraph(viewport, table, skin, context),
+            new UIBuildingCounter(viewport, table, skin, context),
         };
 
         // Initialize achievement notifications
-        AchievementManager.getInstance().initializeNotification(viewport, table, skin);
+        AchievementManager.getInstance().initializeNotification(viewport, table, skin, context);
 
         // Hide game UI and show end UI
-        EventHandler.getEventHandler().createEvent(Events.Event.GAME_END, (params) -> {
-            GameState.getState().gameOver = true;
-            GameState.getState().active = false;
-            
-            // Log total events that occurred
-            System.out.println("Total events during game: " + GameState.getState().getTotalEvents());
-            
+        GameState gameState = context.getGameState();
+        EventHandler eventHandler = context.getEventHandler();
+        eventHandler.createEvent(Events.Event.GAME_END, () -> {
             // Cancel all operations and close building mode/menus
-            EventHandler.getEventHandler().callEvent(Events.Event.CANCEL_OPERATIONS);
-            GameState.getState().buildMenuOpen = false;
-            GameState.getState().placingBuilding = null;
+            eventHandler.callEvent(Events.Event.CANCEL_OPERATIONS);
+            gameState.buildMenuOpen = false;
+            gameState.placingBuilding = null;
             
             // Disable all UI interaction
             UIUtils.disableAllActors(stage);
 
-            // Check achievements before any UI changes
-            AchievementManager.getInstance().checkAchievements();
-
             // Add a delay to allow the achievement notification to show
             stage.addAction(Actions.sequence(
                 Actions.delay(4f), // Wait for notification to finish (3s display + 0.5s fade out + buffer)
@@ -119,15 +106,13 @@ public class UIManager {
 
                     // Create the new end elements
                     uiElements = new UIElement[]{
-                        new UIOverview(viewport, table, skin),
+                        new UIOverview(viewport, table, skin, context),
                     };
                     
                     // Re-enable UI interaction for the game over screen
                     UIUtils.enableAllActors(stage);
                 })
             ));
-
-            return null;
         });
     }
 
@@ -153,10 +138,12 @@ public class UIManager {
      * @param height the new height in pixels.
      */
     public void resize(int width, int height) {
+        GameState gameState = context.getGameState();
+
         // Update world size to match scaling of uiScaleFactor
         viewport.setWorldSize(
-            (float) width / GameState.getState().uiScaleFactor,
-            (float) height / GameState.getState().uiScaleFactor
+            (float) width / gameState.uiScaleFactor,
+            (float) height / gameState.uiScaleFactor
         );
 
         // Updates viewport to match new window size
@@ -1,6 +1,5 @@
 package com.spacecomplexity.longboilife.game.ui.game;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
@@ -10,9 +9,10 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.globals.MainTimer;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 import com.spacecomplexity.longboilife.game.utils.Events;
 import com.spacecomplexity.longboilife.game.utils.EventHandler;
@@ -37,14 +37,15 @@ public class UIBottomMenu extends UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIBottomMenu(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIBottomMenu(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
-        EventHandler eventHandler = EventHandler.getEventHandler();
+        EventHandler eventHandler = context.getEventHandler();
 
-        buildMenu = new UIBuildMenu(uiViewport, parentTable, skin);
-        pauseScreen = new UIPauseScreen(uiViewport, parentTable, skin);
+        buildMenu = new UIBuildMenu(uiViewport, parentTable, skin, context);
+        pauseScreen = new UIPauseScreen(uiViewport, parentTable, skin, context);
 
         // Place building buttons on separate table for condensed styling
         Table buildingButtonsTable = new Table(skin);
@@ -67,10 +68,10 @@ public class UIBottomMenu extends UIElement {
 
         // Load play/pause textures as drawables
         float textureSize = 25;
-        pauseTexture = new Texture(Gdx.files.internal("ui/buttons/pause.png"));
+        pauseTexture = Assets.getTexture(Assets.PAUSE_BUTTON);
         pauseDrawable = new TextureRegionDrawable(pauseTexture);
         pauseDrawable.setMinSize(textureSize, textureSize);
-        playTexture = new Texture(Gdx.files.internal("ui/buttons/play.png"));
+        playTexture = Assets.getTexture(Assets.PLAY_BUTTON);
         playDrawable = new TextureRegionDrawable(playTexture);
         playDrawable.setMinSize(textureSize, textureSize);
 
@@ -85,10 +86,20 @@ public class UIBottomMenu extends UIElement {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 // Call the events to pause/resume the game based on the current pause state
-                eventHandler.callEvent(GameState.getState().paused ? Events.Event.RESUME_GAME : Events.Event.PAUSE_GAME);
+                eventHandler.callEvent(context.getGameState().paused ? Events.Event.RESUME_GAME : Events.Event.PAUSE_GAME);
             }
         });
-        // Place pause button on the table
+        // Initialise speed button showing the current simulation speed
+        TextButton speedButton = new TextButton(context.getGameState().simulationSpeed.getDisplayName(), skin);
+        // Cycle through the simulation speeds when clicked
+        speedButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                eventHandler.callEvent(Events.Event.CHANGE_SPEED);
+            }
+        });
+        // Place speed and pause buttons on the table
+        table.add(speedButton).right().padRight(5).width(50);
         table.add(pauseButton).right().padRight(10);
 
         // Style and place the table
@@ -97,11 +108,11 @@ public class UIBottomMenu extends UIElement {
         placeTable();
 
         // Assign pause and play events
-        eventHandler.createEvent(Events.Event.PAUSE_GAME, (params) -> {
+        eventHandler.createEvent(Events.Event.PAUSE_GAME, () -> {
             // Set pause state
-            GameState.getState().paused = true;
+            context.getGameState().paused = true;
             // Pause the timer
-            MainTimer.getTimerManager().getTimer().pauseTimer();
+            context.getTimer().pauseTimer();
             // Cancel all actions
             eventHandler.callEvent(Events.Event.CANCEL_OPERATIONS);
             // Disable all UI but the pause button
@@ -110,21 +121,24 @@ public class UIBottomMenu extends UIElement {
             // Change background to ▶
             pauseButton.getStyle().up = playDrawable;
             pauseButton.getStyle().down = playDrawable;
-
-            return null;
         });
-        eventHandler.createEvent(Events.Event.RESUME_GAME, (params) -> {
+        eventHandler.createEvent(Events.Event.RESUME_GAME, () -> {
             // Set pause state
-            GameState.getState().paused = false;
+            context.getGameState().paused = false;
             // Resume the timer
-            MainTimer.getTimerManager().getTimer().resumeTimer();
+            context.getTimer().resumeTimer();
             // Re enable all UI
             UIUtils.enableAllActors(parentTable.getStage());
             // Change background to ❚❚
             pauseButton.getStyle().up = pauseDrawable;
             pauseButton.getStyle().down = pauseDrawable;
-
-            return null;
+        });
+        eventHandler.createEvent(Events.Event.CHANGE_SPEED, () -> {
+            GameState gameState = context.getGameState();
+            // Cycle to the next speed
+            gameState.simulationSpeed = gameState.simulationSpeed.next();
+            // Update the button text
+            speedButton.setText(gameState.simulationSpeed.getDisplayName());
         });
     }
 
@@ -151,9 +165,6 @@ public class UIBottomMenu extends UIElement {
     public void dispose() {
         super.dispose();
 
-        playTexture.dispose();
-        pauseTexture.dispose();
-
         buildMenu.dispose();
         pauseScreen.dispose();
     }
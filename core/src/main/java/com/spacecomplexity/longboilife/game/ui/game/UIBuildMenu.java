@@ -8,11 +8,10 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.building.BuildingCategory;
 import com.spacecomplexity.longboilife.game.building.BuildingType;
-import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
-import com.spacecomplexity.longboilife.game.utils.EventHandler;
 import com.spacecomplexity.longboilife.game.utils.Events;
 import com.spacecomplexity.longboilife.game.utils.Vector2Int;
 
@@ -31,9 +30,10 @@ public class UIBuildMenu extends UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIBuildMenu(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIBuildMenu(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         this.skin = skin;
 
@@ -45,9 +45,8 @@ public class UIBuildMenu extends UIElement {
         closeMenu();
 
         // Close menu when receiving an event to do so
-        EventHandler.getEventHandler().createEvent(Events.Event.CLOSE_BUILD_MENU, (params) -> {
+        context.getEventHandler().createEvent(Events.Event.CLOSE_BUILD_MENU, () -> {
             closeMenu();
-            return null;
         });
     }
 
@@ -83,9 +82,9 @@ public class UIBuildMenu extends UIElement {
             button.addListener(new ClickListener() {
                 @Override
                 public void clicked(InputEvent event, float x, float y) {
-                    EventHandler.getEventHandler().callEvent(Events.Event.CANCEL_OPERATIONS);
+                    context.getEventHandler().callEvent(Events.Event.CANCEL_OPERATIONS);
 
-                    GameState.getState().placingBuilding = building;
+                    context.getGameState().placingBuilding = building;
                 }
             });
 
@@ -115,7 +114,7 @@ public class UIBuildMenu extends UIElement {
         table.setVisible(true);
 
         // Update game state
-        GameState.getState().buildMenuOpen = true;
+        context.getGameState().buildMenuOpen = true;
     }
 
     /**
@@ -126,7 +125,7 @@ public class UIBuildMenu extends UIElement {
         table.setVisible(false);
 
         // Update game state
-        GameState.getState().buildMenuOpen = false;
+        context.getGameState().buildMenuOpen = false;
     }
 
     @Override
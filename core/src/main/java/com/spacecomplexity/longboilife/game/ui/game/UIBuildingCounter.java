@@ -4,37 +4,51 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.building.BuildingCategory;
-import com.spacecomplexity.longboilife.game.building.BuildingType;
-import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.events.BuildingBuilt;
+import com.spacecomplexity.longboilife.game.events.BuildingDemolished;
+import com.spacecomplexity.longboilife.game.events.EventBus;
+import com.spacecomplexity.longboilife.game.events.EventListener;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
 
 /**
  * Class to represent the UI building counter.
+ * <p>
+ * The counts only change when a building is built or demolished, so the label is only updated after one of these.
  */
 public class UIBuildingCounter extends UIElement {
+    // Every category shown, in order
+    private static final BuildingCategory[] CATEGORIES = Arrays.stream(BuildingCategory.values())
+        .filter(category -> category != BuildingCategory.PATHWAY)
+        .toArray(BuildingCategory[]::new);
+
     private Label counterLabel;
     private static final float height = 110f;
 
+    private final StringBuilder counterText = new StringBuilder();
+    private boolean countsChanged = true;
+    private final EventListener<Object> countsListener = (event) -> countsChanged = true;
+
     /**
      * Initialise clock menu elements.
      *
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIBuildingCounter(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIBuildingCounter(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Initialise building label - filter out PATHWAY category
         String buildingList = String.join(
             "\r\n",
-            Arrays.stream(BuildingCategory.values())
-                .filter(category -> category != BuildingCategory.PATHWAY)
+            Arrays.stream(CATEGORIES)
                 .map(BuildingCategory::getDisplayName)
                 .toArray(String[]::new)
         );
@@ -55,18 +69,28 @@ public class UIBuildingCounter extends UIElement {
         table.setBackground(skin.getDrawable("panel1"));
         table.setSize(150, height);
         placeTable();
+
+        // Update the counts whenever a building is built or demolished
+        EventBus eventBus = context.getEventBus();
+        eventBus.subscribe(BuildingBuilt.TYPE, countsListener);
+        eventBus.subscribe(BuildingDemolished.TYPE, countsListener);
     }
 
     public void render() {
+        if (!countsChanged) {
+            return;
+        }
+        countsChanged = false;
+
         // Get the count of buildings by category
-        String buildingCount = String.join(
-            "\r\n",
-            Arrays.stream(BuildingCategory.values())
-                .filter(category -> category != BuildingCategory.PATHWAY)
-                .map(category -> String.valueOf(getCategoryCount(category)))
-                .toArray(String[]::new)
-        );
-        counterLabel.setText(buildingCount);
+        counterText.setLength(0);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            if (i > 0) {
+                counterText.append("\r\n");
+            }
+            counterText.append(getCategoryCount(CATEGORIES[i]));
+        }
+        counterLabel.setText(counterText);
     }
 
     /**
@@ -76,10 +100,7 @@ public class UIBuildingCounter extends UIElement {
      * @return the total number of buildings in this category.
      */
     private int getCategoryCount(BuildingCategory category) {
-        return Stream.of(BuildingType.values())
-            .filter(buildingType -> buildingType.getCategory() == category)
-            .mapToInt(buildingType -> GameState.getState().getBuildingCount(buildingType))
-            .sum();
+        return context.getGameState().getCategoryCount(category);
     }
 
     @Override
@@ -87,6 +108,13 @@ public class UIBuildingCounter extends UIElement {
         table.setPosition(0, uiViewport.getWorldHeight() - table.getHeight());
     }
 
+    @Override
+    public void dispose() {
+        EventBus eventBus = context.getEventBus();
+        eventBus.unsubscribe(BuildingBuilt.TYPE, countsListener);
+        eventBus.unsubscribe(BuildingDemolished.TYPE, countsListener);
+    }
+
     public static float getHeight() {
         return height;
     }
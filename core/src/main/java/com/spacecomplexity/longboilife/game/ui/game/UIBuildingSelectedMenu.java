@@ -8,9 +8,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.globals.Constants;
-import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.globals.MainCamera;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 import com.spacecomplexity.longboilife.game.utils.Events;
 import com.spacecomplexity.longboilife.game.utils.EventHandler;
@@ -33,13 +32,14 @@ public class UIBuildingSelectedMenu extends UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIBuildingSelectedMenu(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIBuildingSelectedMenu(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         this.uiViewport = uiViewport;
 
-        EventHandler eventHandler = EventHandler.getEventHandler();
+        EventHandler eventHandler = context.getEventHandler();
 
         // Initialise move button
         moveButton = new TextButton("Move", skin);
@@ -80,15 +80,13 @@ public class UIBuildingSelectedMenu extends UIElement {
         closeMenu();
 
         // Open menu when receiving an event to do so
-        eventHandler.createEvent(Events.Event.OPEN_SELECTED_MENU, (params) -> {
+        eventHandler.createEvent(Events.Event.OPEN_SELECTED_MENU, () -> {
             openMenu();
-            return null;
         });
 
         // Close menu when receiving an event to do so
-        eventHandler.createEvent(Events.Event.CLOSE_SELECTED_MENU, (params) -> {
+        eventHandler.createEvent(Events.Event.CLOSE_SELECTED_MENU, () -> {
             closeMenu();
-            return null;
         });
     }
 
@@ -97,7 +95,7 @@ public class UIBuildingSelectedMenu extends UIElement {
         if (worldSpaceOpened != null) {
             Vector3 placement = new Vector3(worldSpaceOpened);
             // Convert world space into screen space
-            MainCamera.camera().getCamera().project(placement);
+            context.getCamera().getCamera().project(placement);
             // Flip y coordinates as screen/ui coordinate system has a flipped origin
             placement.y = Gdx.graphics.getHeight() - placement.y;
             // Convert screen space into ui coordinates
@@ -110,11 +108,11 @@ public class UIBuildingSelectedMenu extends UIElement {
     private void openMenu() {
         // Get the world space of current mouse position so that we can keep it positioned relatively
         Vector3 mouse = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-        MainCamera.camera().getCamera().unproject(mouse);
+        context.getCamera().getCamera().unproject(mouse);
         worldSpaceOpened = new Vector3(mouse);
 
         // Set the prices of each of these actions based on the price of the building and constants
-        float buildingCost = GameState.getState().selectedBuilding.getType().getCost();
+        float buildingCost = context.getGameState().selectedBuilding.getType().getCost();
         moveButton.setText("Move\r\n" + NumberFormat.getCurrencyInstance(Locale.UK).format(buildingCost * Constants.moveCostRecovery));
         moveButton.pack();
         sellButton.setText("Sell\r\n+" + NumberFormat.getCurrencyInstance(Locale.UK).format(buildingCost * Constants.sellCostRecovery));
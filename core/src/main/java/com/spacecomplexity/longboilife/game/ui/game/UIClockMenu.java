@@ -5,17 +5,22 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.spacecomplexity.longboilife.game.globals.MainTimer;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 /**
  * Class to represent the Clock UI.
+ * <p>
+ * The time is shown in seconds, so the label is only updated once a second.
  */
 public class UIClockMenu extends UIElement {
     private Label label;
 
-    private final MainTimer mainTimer = MainTimer.getTimerManager();
+    private final StringBuilder timeText = new StringBuilder();
+    // The time being shown (in seconds), or -1 before the first render so it is always shown then
+    private long shownTime = -1;
 
     /**
      * Initialise clock menu elements.
@@ -23,9 +28,10 @@ public class UIClockMenu extends UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIClockMenu(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIClockMenu(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Initialise time label
         label = new Label(null, skin);
@@ -42,7 +48,7 @@ public class UIClockMenu extends UIElement {
     }
 
     public void render() {
-        setTime(mainTimer.getTimer().getTimeLeft() / 1000);
+        setTime(context.getTimer().getTimeLeft() / 1000);
     }
 
     /**
@@ -51,8 +57,20 @@ public class UIClockMenu extends UIElement {
      * @param time the time in seconds
      */
     private void setTime(long time) {
-        // Format this onto the time label
-        label.setText(String.format("%d:%02d", time / 60, time % 60));
+        if (time == shownTime) {
+            return;
+        }
+        shownTime = time;
+
+        // Format this onto the time label as m:ss
+        long seconds = time % 60;
+        timeText.setLength(0);
+        timeText.append(time / 60).append(':');
+        if (seconds < 10) {
+            timeText.append('0');
+        }
+        timeText.append(seconds);
+        label.setText(timeText);
     }
 
     @Override
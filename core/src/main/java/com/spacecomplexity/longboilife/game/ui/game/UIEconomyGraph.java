@@ -0,0 +1,220 @@
+package com.spacecomplexity.longboilife.game.ui.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.simulation.EconomyLedger;
+import com.spacecomplexity.longboilife.game.ui.UIElement;
+
+/**
+ * Class to represent the economy graph UI, plotting the history of money, income, expenses and satisfaction.
+ */
+public class UIEconomyGraph extends UIElement {
+    private final LedgerGraph graph;
+
+    /**
+     * Initialise economy graph elements.
+     *
+     * @param uiViewport  the viewport used to render UI.
+     * @param parentTable the table to render this element onto.
+     * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
+     */
+    public UIEconomyGraph(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
+
+        graph = new LedgerGraph(context.getSimulation().getLedger());
+
+        // Initialise a legend label for each line
+        Table legendTable = new Table(skin);
+        for (int i = 0; i < LedgerGraph.SERIES_NAMES.length; i++) {
+            Label label = new Label(LedgerGraph.SERIES_NAMES[i], skin);
+            label.setFontScale(0.8f);
+            label.setColor(LedgerGraph.SERIES_COLORS[i]);
+            legendTable.add(label).padLeft(i == 0 ? 0 : 4);
+        }
+
+        // Place elements onto table
+        table.add(legendTable);
+        table.row();
+        table.add(graph).grow().pad(2, 8, 8, 8);
+
+        // Style and place the table
+        table.setBackground(skin.getDrawable("panel1"));
+        table.setSize(185, 120);
+        placeTable();
+    }
+
+    public void render() {
+        graph.update();
+    }
+
+    @Override
+    protected void placeTable() {
+        // Below the money menu
+        table.setPosition(uiViewport.getWorldWidth() - table.getWidth(), uiViewport.getWorldHeight() - table.getHeight() - 95);
+    }
+
+    @Override
+    public void dispose() {
+        graph.dispose();
+    }
+
+    /**
+     * Widget which draws the samples of an {@link EconomyLedger} as lines.
+     * <p>
+     * Every line is drawn with a single mesh, whose vertices are only rebuilt when the ledger changes. The vertex array
+     * is allocated once, so nothing is allocated while the game is running.
+     */
+    private static class LedgerGraph extends Widget {
+        private static final String[] SERIES_NAMES = {"Money", "Income", "Expenses", "Satisfaction"};
+        private static final Color[] SERIES_COLORS = {Color.GREEN, Color.SKY, Color.SALMON, Color.GOLD};
+
+        // The number of points along each line, the ledger is sampled evenly to this many points
+        private static final int POINTS = 120;
+        // Each vertex is an x, y position and a packed colour
+        private static final int VERTEX_SIZE = 3;
+        private static final int MAX_VERTICES = SERIES_NAMES.length * (POINTS - 1) * 2;
+
+        private final EconomyLedger ledger;
+        private final float[] packedColors = new float[SERIES_NAMES.length];
+
+        private final Mesh mesh;
+        private final ShaderProgram shader;
+        private final float[] vertices = new float[MAX_VERTICES * VERTEX_SIZE];
+        private final Matrix4 projection = new Matrix4();
+        private int vertexCount = 0;
+
+        // The ledger version and size the vertices were built for, to know when they need rebuilding
+        private long builtVersion = -1;
+        private float builtWidth = -1;
+        private float builtHeight = -1;
+
+        // The ledger samples at each point, reused each time the vertices are rebuilt
+        private final double[][] values = new double[SERIES_NAMES.length][POINTS];
+        private final long[] ticks = new long[POINTS];
+
+        private boolean disposed = false;
+
+        private LedgerGraph(EconomyLedger ledger) {
+            this.ledger = ledger;
+
+            for (int i = 0; i < SERIES_COLORS.length; i++) {
+                packedColors[i] = SERIES_COLORS[i].toFloatBits();
+            }
+
+            mesh = new Mesh(false, MAX_VERTICES, 0,
+                new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+                VertexAttribute.ColorPacked()
+            );
+            shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+        }
+
+        /**
+         * Rebuild the vertices if the ledger or size of the graph has changed since they were last built.
+         */
+        private void update() {
+            if (ledger.getVersion() == builtVersion && getWidth() == builtWidth && getHeight() == builtHeight) {
+                return;
+            }
+            builtVersion = ledger.getVersion();
+            builtWidth = getWidth();
+            builtHeight = getHeight();
+
+            int size = ledger.size();
+            int points = Math.min(POINTS, size);
+            vertexCount = 0;
+            if (points < 2) {
+                return;
+            }
+
+            // Sample the ledger evenly, always including the first and last samples
+            double moneyMin = 0;
+            double moneyMax = 1;
+            for (int p = 0; p < points; p++) {
+                int index = (int) ((long) p * (size - 1) / (points - 1));
+                ticks[p] = ledger.getTick(index);
+                values[0][p] = ledger.getMoney(index);
+                values[1][p] = ledger.getIncome(index);
+                values[2][p] = ledger.getExpenses(index);
+                values[3][p] = ledger.getSatisfaction(index);
+
+                for (int series = 0; series < 3; series++) {
+                    moneyMin = Math.min(moneyMin, values[series][p]);
+                    moneyMax = Math.max(moneyMax, values[series][p]);
+                }
+            }
+
+            // Stretch the lines over the whole game, so they fill the graph as the game goes on
+            long firstTick = ticks[0];
+            double span = Math.max(ticks[points - 1] - firstTick, ledger.getCapacity() - 1);
+
+            int i = 0;
+            for (int series = 0; series < SERIES_NAMES.length; series++) {
+                // Money, income and expenses share a scale, satisfaction is a percentage
+                double min = series == 3 ? 0 : moneyMin;
+                double max = series == 3 ? 100 : moneyMax;
+
+                for (int p = 1; p < points; p++) {
+                    for (int end = p - 1; end <= p; end++) {
+                        vertices[i++] = (float) ((ticks[end] - firstTick) / span * builtWidth);
+                        vertices[i++] = (float) ((values[series][end] - min) / (max - min) * builtHeight);
+                        vertices[i++] = packedColors[series];
+                    }
+                }
+            }
+            vertexCount = i / VERTEX_SIZE;
+            mesh.setVertices(vertices, 0, i);
+        }
+
+        @Override
+        public void draw(Batch batch, float parentAlpha) {
+            if (vertexCount == 0) {
+                return;
+            }
+
+            // The vertices are relative to the graph, so move them to where the graph is drawn
+            projection.set(batch.getProjectionMatrix())
+                .mul(batch.getTransformMatrix())
+                .translate(getX(), getY(), 0);
+
+            // Lines are drawn straight from the mesh, so the batch must be flushed first
+            batch.end();
+            shader.bind();
+            shader.setUniformMatrix("u_projModelView", projection);
+            mesh.render(shader, GL20.GL_LINES, 0, vertexCount);
+            batch.begin();
+        }
+
+        @Override
+        public float getPrefWidth() {
+            return 0;
+        }
+
+        @Override
+        public float getPrefHeight() {
+            return 0;
+        }
+
+        private void dispose() {
+            if (disposed) {
+                return;
+            }
+            mesh.dispose();
+            shader.dispose();
+            disposed = true;
+        }
+    }
+}
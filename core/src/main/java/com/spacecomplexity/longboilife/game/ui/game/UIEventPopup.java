@@ -6,8 +6,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
-import com.spacecomplexity.longboilife.game.utils.EventHandler;
 import com.spacecomplexity.longboilife.game.utils.Events;
 
 public class UIEventPopup extends UIElement {
@@ -15,8 +15,8 @@ public class UIEventPopup extends UIElement {
     private static final float FADE_DURATION = 0.5f;  // Fade in/out over 0.5 seconds
     private Label messageLabel;
 
-    public UIEventPopup(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIEventPopup(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Style and place the table
         table.setBackground(skin.getDrawable("panel1"));
@@ -33,9 +33,8 @@ public class UIEventPopup extends UIElement {
         placeTable();
 
         // Close menu when receiving an event to do so
-        EventHandler.getEventHandler().createEvent(Events.Event.CLOSE_EVENT_POPUP, (params) -> {
+        context.getEventHandler().createEvent(Events.Event.CLOSE_EVENT_POPUP, () -> {
             close();
-            return null;
         });
     }
     
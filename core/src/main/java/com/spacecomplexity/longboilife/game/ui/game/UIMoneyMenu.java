@@ -6,7 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 import java.text.NumberFormat;
@@ -14,19 +14,26 @@ import java.util.Locale;
 
 /**
  * Class to represent the Money UI.
+ * <p>
+ * The label is only formatted again when the amount of money changes.
  */
 public class UIMoneyMenu extends UIElement {
     private Label label;
 
+    private final NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(Locale.UK);
+    // The amount being shown, NaN until the first render so it is always shown then
+    private float shownMoney = Float.NaN;
+
     /**
      * Initialise money menu elements.
      *
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIMoneyMenu(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIMoneyMenu(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Initialise money label
         label = new Label(null, skin);
@@ -43,7 +50,13 @@ public class UIMoneyMenu extends UIElement {
     }
 
     public void render() {
-        label.setText(NumberFormat.getCurrencyInstance(Locale.UK).format(GameState.getState().money));
+        float money = context.getGameState().money;
+        if (money == shownMoney) {
+            return;
+        }
+        shownMoney = money;
+
+        label.setText(currencyFormat.format(money));
     }
 
     @Override
@@ -1,13 +1,13 @@
 package com.spacecomplexity.longboilife.game.ui.game;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 /**
@@ -22,12 +22,13 @@ public class UIPauseScreen extends UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIPauseScreen(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIPauseScreen(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Initialise logo
-        pauseTexture = new Texture(Gdx.files.internal("ui/buttons/pause.png"));
+        pauseTexture = Assets.getTexture(Assets.PAUSE_BUTTON);
         Image logo = new Image(pauseTexture);
 
         // Place label onto table
@@ -39,7 +40,7 @@ public class UIPauseScreen extends UIElement {
     }
 
     public void render() {
-        if (GameState.getState().paused) {
+        if (context.getGameState().paused) {
             table.setVisible(true);
         } else {
             table.setVisible(false);
@@ -50,11 +51,4 @@ public class UIPauseScreen extends UIElement {
     protected void placeTable() {
         table.setPosition((uiViewport.getWorldWidth() - table.getWidth()) / 2, (uiViewport.getWorldHeight() - table.getHeight()) / 2);
     }
-
-    @Override
-    public void dispose() {
-        super.dispose();
-
-        pauseTexture.dispose();
-    }
 }
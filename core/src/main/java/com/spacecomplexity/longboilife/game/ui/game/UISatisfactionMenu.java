@@ -6,25 +6,32 @@ import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 /**
  * Class to represent the Satisfaction Score UI.
+ * <p>
+ * The satisfaction score only changes when buildings or game events change it, so the UI is only updated when the
+ * score is different from the one shown.
  */
 public class UISatisfactionMenu extends UIElement {
     private Label scoreLabel;
     private ProgressBar satisfactionBar;
 
+    // The score being shown, NaN until the first render so it is always shown then
+    private double shownSatisfaction = Double.NaN;
+
     /**
      * Initialise satisfaction menu elements.
      *
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UISatisfactionMenu(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UISatisfactionMenu(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Initialise label
         Label label = new Label("Satisfaction Score:", skin);
@@ -53,8 +60,12 @@ public class UISatisfactionMenu extends UIElement {
     }
 
     public void render() {
-        double satisfaction = GameState.getState().satisfactionScore;
-        
+        double satisfaction = context.getGameState().satisfactionScore;
+        if (satisfaction == shownSatisfaction) {
+            return;
+        }
+        shownSatisfaction = satisfaction;
+
         scoreLabel.setText(String.format("%.2f%%", satisfaction));
         scoreLabel.setColor(satisfaction > 50 ? Color.GREEN : Color.RED);
         satisfactionBar.setValue((float)satisfaction / 100);
@@ -6,17 +6,18 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.building.Building;
 import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 
 public class UITooltip extends UIElement {
     private static final float HOVER_DELAY = 0.5f; // 0.5 seconds
-    private final GameState gameState = GameState.getState();
+    private final GameState gameState = context.getGameState();
     private final Skin skin;
 
-    public UITooltip(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UITooltip(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
         this.skin = skin;
         
         table.setBackground(skin.getDrawable("panel1"));
@@ -50,11 +51,10 @@ public class UITooltip extends UIElement {
         table.add(new Label(building.getType().getDisplayName(), skin, "title")).row();
         table.add(new Label("Type: " + building.getType().getCategory().getDisplayName(), skin)).row();
         
-        // Add satisfaction info if it exists
-        String satisfactionInfo = building.getSatisfactionInfo();
-        if (satisfactionInfo != null && !satisfactionInfo.isEmpty()) {
+        // Add satisfaction info if there are any modifiers, the building caches this text until they change
+        if (!building.getSatisfactionModifiers().isEmpty()) {
             table.add(new Label("Satisfaction Modifiers:", skin)).row();
-            table.add(new Label(satisfactionInfo, skin)).row();
+            table.add(new Label(building.getSatisfactionInfo(), skin)).row();
         }
         
         table.pack();
@@ -9,10 +9,9 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextField;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.ui.UIElement;
 import com.spacecomplexity.longboilife.game.utils.Events;
-import com.spacecomplexity.longboilife.game.utils.EventHandler;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -31,19 +30,20 @@ public class UIOverview extends UIElement {
      * @param uiViewport  the viewport used to render UI.
      * @param parentTable the table to render this element onto.
      * @param skin        the provided skin.
+     * @param context     the context of the game this UI is for.
      */
-    public UIOverview(Viewport uiViewport, Table parentTable, Skin skin) {
-        super(uiViewport, parentTable, skin);
+    public UIOverview(Viewport uiViewport, Table parentTable, Skin skin, GameContext context) {
+        super(uiViewport, parentTable, skin, context);
 
         // Initialize the data manager
-        this.dataManager = new LeaderboardDataManager();
+        this.dataManager = LeaderboardDataManager.getInstance();
 
         // Create label for game over text
         Label gameOverLabel = new Label("Game Over", skin);
         gameOverLabel.setFontScale(1f);
 
         // Format satisfaction score to 2 decimal places and ensure it's capped at 100
-        double satisfactionScore = Math.min(100, GameState.getState().satisfactionScore);
+        double satisfactionScore = Math.min(100, context.getGameState().satisfactionScore);
         satisfactionScore = Math.round(satisfactionScore * 100.0) / 100.0;
 
         // Create label for satisfaction score
@@ -63,7 +63,7 @@ public class UIOverview extends UIElement {
             public void clicked(InputEvent event, float x, float y) {
                 // Getting username and score which will be saved to Leaderboard JSON file
                 String username = usernameField.getText();
-                Float userScore = (float)GameState.getState().satisfactionScore;
+                Float userScore = (float)context.getGameState().satisfactionScore;
 
                 // Adding user's username and score to the leaderboard JSON file
                 List<LeaderboardEntry> newEntries = new ArrayList<>();
@@ -71,7 +71,7 @@ public class UIOverview extends UIElement {
                 dataManager.saveLeaderboard(newEntries);
                 
                 // Return to menu once button is clicked
-                EventHandler.getEventHandler().callEvent(Events.Event.RETURN_MENU);
+                context.getEventHandler().callEvent(Events.Event.RETURN_MENU);
             }
         });
 
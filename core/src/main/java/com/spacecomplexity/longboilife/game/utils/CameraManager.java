@@ -15,18 +15,20 @@ import com.spacecomplexity.longboilife.game.world.World;
 public class CameraManager {
     private final OrthographicCamera camera;
     public World world;
-    private final GameState gameState = GameState.getState();
+    private final GameState gameState;
     public Vector3 position;
     public float zoom;
 
     /**
      * Creates a camera with specified world for clamping.
      *
-     * @param world the current world to get dimensions from.
+     * @param world     the current world to get dimensions from.
+     * @param gameState the state of the game, for scaling.
      */
-    public CameraManager(World world) {
+    public CameraManager(World world, GameState gameState) {
         camera = new OrthographicCamera();
         this.world = world;
+        this.gameState = gameState;
         position = new Vector3();
         zoom = 1;
     }
@@ -1,20 +1,28 @@
 package com.spacecomplexity.longboilife.game.utils;
 
-import java.util.function.Function;
+import java.util.EnumMap;
 
 import com.spacecomplexity.longboilife.game.utils.Events.GameEvent;
-import com.spacecomplexity.longboilife.game.world.World;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.Main;
 import com.spacecomplexity.longboilife.game.utils.Events.Event;
 
 /**
- * Class to manage events which can be called from anywhere within the game.
+ * Class to manage events which can be called from anywhere within a game.
+ * <p>
+ * Each game has its own instance, owned by its {@link GameContext}, so the callbacks are stored here rather than on
+ * the event enums.
+ * <p>
+ * Events are commands, so each has exactly one callback which carries it out. Anything which only needs to observe
+ * what happened (such as a building being built) should subscribe to the context's
+ * {@link com.spacecomplexity.longboilife.game.events.EventBus} instead.
  */
 public class EventHandler {
-    private static final EventHandler eventHandler = new EventHandler();
-    
-    public void initialiseEvents(Main game, World world) {
-        Events events = new Events(game, world);
+    private final EnumMap<Event, Runnable> eventCallbacks = new EnumMap<>(Event.class);
+    private final EnumMap<GameEvent, Runnable> gameEventCallbacks = new EnumMap<>(GameEvent.class);
+
+    public void initialiseEvents(Main game, GameContext context) {
+        Events events = new Events(game, context);
         events.initialiseEvents();
     }
 
@@ -24,8 +32,8 @@ public class EventHandler {
      * @param event    the event.
      * @param callback the event method, the function that will be executed on any calls.
      */
-    public void createEvent(Event event, Function<Object[], Object> callback) {
-        event.setCallback(callback);
+    public void createEvent(Event event, Runnable callback) {
+        eventCallbacks.put(event, callback);
     }
     /**
      * Create an event.
@@ -33,56 +41,43 @@ public class EventHandler {
      * @param event    the event.
      * @param callback the event method, the function that will be executed on any calls.
      */
-    public void createEvent(GameEvent event, Function<Object[], Object> callback) {
-        event.setCallback(callback);
+    public void createEvent(GameEvent event, Runnable callback) {
+        gameEventCallbacks.put(event, callback);
     }
 
     /**
      * Call a previously defined event.
      *
-     * @param event  the event given to call.
-     * @param params the parameter(s) to pass to the event.
-     * @return what the original event would return, this will need to be cast as we cannot know the type here.
+     * @param event the event given to call.
      * @throws IllegalArgumentException if the event has not been defined.
      */
-    public Object callEvent(Event event, Object... params) throws IllegalArgumentException {
-        Function<Object[], Object> callback = event.getCallback();
+    public void callEvent(Event event) throws IllegalArgumentException {
+        Runnable callback = eventCallbacks.get(event);
 
         // If the callback is not defined then throw an error
         if (callback == null) {
             throw new IllegalArgumentException("No method defined for calling event: \"" + event.name() + "\"");
         }
 
-        // Execute the callback and return the result
-        return callback.apply(params);
+        // Execute the callback
+        callback.run();
     }
     
     /**
      * Call a previously defined game event.
      *
-     * @param event  the game event given to call.
-     * @param params the parameter(s) to pass to the event.
-     * @return what the original event would return, this will need to be cast as we cannot know the type here.
+     * @param event the game event given to call.
      * @throws IllegalArgumentException if the event has not been defined.
      */
-    public Object callEvent(GameEvent event, Object... params) throws IllegalArgumentException {
-        Function<Object[], Object> callback = event.getCallback();
+    public void callEvent(GameEvent event) throws IllegalArgumentException {
+        Runnable callback = gameEventCallbacks.get(event);
 
         // If the callback is not defined then throw an error
         if (callback == null) {
             throw new IllegalArgumentException("No method defined for calling event: \"" + event.name() + "\"");
         }
 
-        // Execute the callback and return the result
-        return callback.apply(params);
-    }
-
-    /**
-     * Get the singleton instance of the {@link EventHandler} class.
-     *
-     * @return The single {@link EventHandler} class.
-     */
-    public static EventHandler getEventHandler() {
-        return eventHandler;
+        // Execute the callback
+        callback.run();
     }
 }
@@ -0,0 +1,53 @@
+package com.spacecomplexity.longboilife.game.utils;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Class for utils relating to files.
+ */
+public class FileUtils {
+    /**
+     * Replace the contents of a file without ever leaving it half written.
+     * <p>
+     * The contents are written to a temporary file next to it, which then replaces the file. The replacement is atomic
+     * where the file system supports it, otherwise the file is replaced with a normal move.
+     *
+     * @param file  the file to write.
+     * @param bytes the new contents of the file.
+     * @throws IOException          if the temporary file cannot replace the file.
+     * @throws GdxRuntimeException if the temporary file cannot be written.
+     */
+    public static void writeAtomically(FileHandle file, byte[] bytes) throws IOException, GdxRuntimeException {
+        FileHandle temp = file.sibling(file.name() + ".tmp");
+        temp.writeBytes(bytes, false);
+
+        Path source = temp.file().toPath();
+        Path target = file.file().toPath();
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Replace the contents of a file with a string without ever leaving it half written.
+     *
+     * @param file   the file to write.
+     * @param string the new contents of the file, which is written as UTF-8.
+     * @throws IOException          if the temporary file cannot replace the file.
+     * @throws GdxRuntimeException if the temporary file cannot be written.
+     * @see FileUtils#writeAtomically(FileHandle, byte[])
+     */
+    public static void writeAtomically(FileHandle file, String string) throws IOException, GdxRuntimeException {
+        writeAtomically(file, string.getBytes(StandardCharsets.UTF_8));
+    }
+}
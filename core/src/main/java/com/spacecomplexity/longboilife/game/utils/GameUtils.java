@@ -2,10 +2,10 @@ package com.spacecomplexity.longboilife.game.utils;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector3;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.building.Building;
 import com.spacecomplexity.longboilife.game.globals.Constants;
 import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.globals.MainCamera;
 import com.spacecomplexity.longboilife.game.globals.Window;
 import com.spacecomplexity.longboilife.game.world.World;
 
@@ -17,16 +17,16 @@ public class GameUtils {
     /**
      * Get the current position of the mouse relative to the world grid.
      *
-     * @param world the world reference for size.
+     * @param context the context of the game, for its camera and scaling.
      * @return the grid index at the current mouse position.
      */
-    public static Vector2Int getMouseOnGrid(World world) {
+    public static Vector2Int getMouseOnGrid(GameContext context) {
         // Get the position of mouse in world coordinates
         Vector3 mouse = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-        MainCamera.camera().getCamera().unproject(mouse);
+        context.getCamera().getCamera().unproject(mouse);
 
         // Divide these by the cell size (as the world starts at (0, 0))
-        float cellSize = Constants.TILE_SIZE * GameState.getState().scaleFactor;
+        float cellSize = Constants.TILE_SIZE * context.getGameState().scaleFactor;
         return new Vector2Int(
             (int) (mouse.x / cellSize),
             (int) (mouse.y / cellSize)
@@ -35,8 +35,10 @@ public class GameUtils {
 
     /**
      * Calculate and set scaling factors using the window size.
+     *
+     * @param gameState the game state to set the scaling factors on.
      */
-    public static void calculateScaling() {
+    public static void calculateScaling(GameState gameState) {
         int screenHeight = Window.height;
 
         // If height is 0 then the window is minimised so don't bother calculating as this could cause unintended behaviour with scaling at 0
@@ -44,9 +46,9 @@ public class GameUtils {
             return;
 
         // Calculate scale factor based on screen height linearly using constant
-        GameState.getState().scaleFactor = screenHeight / (float) Constants.SCALING_1_HEIGHT;
+        gameState.scaleFactor = screenHeight / (float) Constants.SCALING_1_HEIGHT;
         // Calculate UI scale factor based on screen height using scaling map
-        GameState.getState().uiScaleFactor = Constants.UI_SCALING_MAP.floorEntry(screenHeight).getValue();
+        gameState.uiScaleFactor = Constants.UI_SCALING_MAP.floorEntry(screenHeight).getValue();
     }
     
     public static Boolean roadAdjacent(World world, Building building) {
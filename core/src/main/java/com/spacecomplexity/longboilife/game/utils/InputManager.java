@@ -4,23 +4,27 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.math.Vector3;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.spacecomplexity.longboilife.game.globals.Keybindings;
-import com.spacecomplexity.longboilife.game.globals.MainCamera;
 import com.spacecomplexity.longboilife.game.tile.Tile;
 import com.spacecomplexity.longboilife.game.world.World;
 
 public class InputManager {
-    private final GameState gameState = GameState.getState();
+    private final GameContext context;
+    private final GameState gameState;
     private final World world;
 
     /**
      * Create an input manager by initialising the input processors and set attributes.
      *
      * @param inputMultiplexer to add the input processor events to the input processing.
+     * @param context          the context of the game being played.
      */
-    public InputManager(InputMultiplexer inputMultiplexer, World world) {
-        this.world = world;
+    public InputManager(InputMultiplexer inputMultiplexer, GameContext context) {
+        this.context = context;
+        this.gameState = context.getGameState();
+        this.world = context.getWorld();
         inputMultiplexer.addProcessor(new InputProcessor());
     }
 
@@ -37,27 +41,27 @@ public class InputManager {
         float deltaTime = Gdx.graphics.getDeltaTime();
 
         // Calculate camera speed and move camera around given camera direction keys pressed
-        float cameraSpeed = gameState.cameraSpeed * deltaTime * MainCamera.camera().zoom * gameState.scaleFactor;
+        float cameraSpeed = gameState.cameraSpeed * deltaTime * context.getCamera().zoom * gameState.scaleFactor;
         if (Gdx.input.isKeyPressed(Keybindings.CAMERA_UP.getKey())) {
-            MainCamera.camera().position.y += cameraSpeed;
+            context.getCamera().position.y += cameraSpeed;
         }
         if (Gdx.input.isKeyPressed(Keybindings.CAMERA_DOWN.getKey())) {
-            MainCamera.camera().position.y -= cameraSpeed;
+            context.getCamera().position.y -= cameraSpeed;
         }
         if (Gdx.input.isKeyPressed(Keybindings.CAMERA_LEFT.getKey())) {
-            MainCamera.camera().position.x -= cameraSpeed;
+            context.getCamera().position.x -= cameraSpeed;
         }
         if (Gdx.input.isKeyPressed(Keybindings.CAMERA_RIGHT.getKey())) {
-            MainCamera.camera().position.x += cameraSpeed;
+            context.getCamera().position.x += cameraSpeed;
         }
 
         // Calculate camera zoom speed and zoom camera around given camera zoom keys pressed
-        float cameraZoomSpeed = gameState.cameraKeyZoomSpeed * deltaTime * MainCamera.camera().zoom;
+        float cameraZoomSpeed = gameState.cameraKeyZoomSpeed * deltaTime * context.getCamera().zoom;
         if (Gdx.input.isKeyPressed(Keybindings.CAMERA_ZOOM_IN.getKey())) {
-            MainCamera.camera().zoom += cameraZoomSpeed;
+            context.getCamera().zoom += cameraZoomSpeed;
         }
         if (Gdx.input.isKeyPressed(Keybindings.CAMERA_ZOOM_OUT.getKey())) {
-            MainCamera.camera().zoom -= cameraZoomSpeed;
+            context.getCamera().zoom -= cameraZoomSpeed;
         }
     }
 
@@ -66,7 +70,7 @@ public class InputManager {
      * Will be called every frame (before rendering, hence before {@link InputManager#handleContinuousInput()}).
      */
     private class InputProcessor extends InputAdapter {
-        private final EventHandler eventHandler = EventHandler.getEventHandler();
+        private final EventHandler eventHandler = context.getEventHandler();
 
         /**
          * Zoom the camera at the mouse position when the scroll wheel/trackpad is used.
@@ -86,10 +90,10 @@ public class InputManager {
 
             // Convert the current mouse position into world coordinates
             Vector3 mousePosition = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            MainCamera.camera().getCamera().unproject(mousePosition);
+            context.getCamera().getCamera().unproject(mousePosition);
 
             // Zoom in/out at the mouses current position
-            MainCamera.camera().zoomAt(amountY * gameState.cameraScrollZoomSpeed * deltaTime, mousePosition);
+            context.getCamera().zoomAt(amountY * gameState.cameraScrollZoomSpeed * deltaTime, mousePosition);
 
             return false;
         }
@@ -122,7 +126,7 @@ public class InputManager {
                     }
 
                     // If a building is selected then try to build this
-                    if (GameState.getState().placingBuilding != null) {
+                    if (gameState.placingBuilding != null) {
                         eventHandler.callEvent(Events.Event.BUILD);
                     }
 
@@ -171,7 +175,7 @@ public class InputManager {
 
                     // If a building is selected then try to build
                     // This allows drag placing buildings which are not automatically deselected
-                    if (GameState.getState().placingBuilding != null) {
+                    if (gameState.placingBuilding != null) {
                         eventHandler.callEvent(Events.Event.BUILD);
                     }
 
@@ -184,8 +188,8 @@ public class InputManager {
                     float deltaY = screenY - lastScreenY;
 
                     // Move the camera the respective amount to simulate dragging
-                    MainCamera.camera().position.x -= deltaX * MainCamera.camera().zoom;
-                    MainCamera.camera().position.y += deltaY * MainCamera.camera().zoom;
+                    context.getCamera().position.x -= deltaX * context.getCamera().zoom;
+                    context.getCamera().position.y += deltaY * context.getCamera().zoom;
 
                     lastScreenX = screenX;
                     lastScreenY = screenY;
@@ -217,7 +221,19 @@ public class InputManager {
                     return true;
                 }
 
-                eventHandler.callEvent(GameState.getState().paused ? Events.Event.RESUME_GAME : Events.Event.PAUSE_GAME);
+                eventHandler.callEvent(gameState.paused ? Events.Event.RESUME_GAME : Events.Event.PAUSE_GAME);
+
+                return true;
+            }
+
+            // If the change speed key is pressed, cycle to the next simulation speed
+            else if (keycode == Keybindings.CHANGE_SPEED.getKey()) {
+                // If the game is over don't allow changing speed
+                if (gameState.gameOver) {
+                    return true;
+                }
+
+                eventHandler.callEvent(Events.Event.CHANGE_SPEED);
 
                 return true;
             }
@@ -241,7 +257,7 @@ public class InputManager {
             }
 
             // Get the tile at mouse position
-            Tile tile = world.getTile(GameUtils.getMouseOnGrid(world));
+            Tile tile = world.getTile(GameUtils.getMouseOnGrid(context));
             if (tile != null) {
                 gameState.hoveredBuilding = tile.getBuildingRef();
             } else {
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.spacecomplexity.longboilife.game.GameContext;
 import com.spacecomplexity.longboilife.game.building.Building;
 import com.spacecomplexity.longboilife.game.building.BuildingCategory;
 import com.spacecomplexity.longboilife.game.building.BuildingType;
@@ -22,12 +23,13 @@ public class RenderUtils {
     /**
      * Draw the world's base tiles.
      *
-     * @param batch the {@link SpriteBatch} to draw sprites to.
-     * @param world the {@link World} containing map to draw.
-     * @param tint  the tint to apply to all the tiles.
+     * @param batch   the {@link SpriteBatch} to draw sprites to.
+     * @param context the context of the game containing the {@link World} to draw.
+     * @param tint    the tint to apply to all the tiles.
      */
-    public static void drawWorld(SpriteBatch batch, World world, Color tint) {
-        float cellSize = getCellSize();
+    public static void drawWorld(SpriteBatch batch, GameContext context, Color tint) {
+        float cellSize = getCellSize(context);
+        World world = context.getWorld();
 
         // Begin the batch with the specified tint
         batch.begin();
@@ -56,12 +58,13 @@ public class RenderUtils {
     /**
      * Draw the world's buildings.
      *
-     * @param batch the {@link SpriteBatch} to draw sprites to.
-     * @param world the {@link World} containing buildings to draw.
-     * @param tint  the tint to apply to all the buildings.
+     * @param batch   the {@link SpriteBatch} to draw sprites to.
+     * @param context the context of the game containing the {@link World} with buildings to draw.
+     * @param tint    the tint to apply to all the buildings.
      */
-    public static void drawBuildings(SpriteBatch batch, World world, Color tint) {
-        float cellSize = getCellSize();
+    public static void drawBuildings(SpriteBatch batch, GameContext context, Color tint) {
+        float cellSize = getCellSize(context);
+        World world = context.getWorld();
 
         // Begin the batch with the specified tint
         batch.begin();
@@ -108,10 +111,11 @@ public class RenderUtils {
      * Draw gridlines between every tile in the world.
      *
      * @param shapeRenderer the {@link ShapeRenderer} to draw lines to.
-     * @param world         the {@link World} for size.
+     * @param context       the context of the game containing the {@link World} for size.
      */
-    public static void drawWorldGridlines(ShapeRenderer shapeRenderer, World world, Color colour) {
-        float cellSize = getCellSize();
+    public static void drawWorldGridlines(ShapeRenderer shapeRenderer, GameContext context, Color colour) {
+        float cellSize = getCellSize(context);
+        World world = context.getWorld();
 
         // Begin the shape render with specified colour
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
@@ -139,15 +143,16 @@ public class RenderUtils {
      * Draw a building at the mouse coordinates.
      *
      * @param batch     the {@link SpriteBatch} to draw sprites to.
-     * @param world     the {@link World} containing map to check validity.
+     * @param context   the context of the game containing the {@link World} to check validity.
      * @param building  the building type to draw.
      * @param tint      the tint to apply to the building.
      * @param issueTint the tint to apply to the building if it is invalid.
      */
-    public static void drawPlacingBuilding(SpriteBatch batch, World world, BuildingType building, Color tint, Color issueTint) {
-        float cellSize = getCellSize();
+    public static void drawPlacingBuilding(SpriteBatch batch, GameContext context, BuildingType building, Color tint, Color issueTint) {
+        float cellSize = getCellSize(context);
+        World world = context.getWorld();
 
-        Vector2Int mouse = GameUtils.getMouseOnGrid(world);
+        Vector2Int mouse = GameUtils.getMouseOnGrid(context);
 
         // Begin the batch with the specified tint based on the building being valid
         batch.begin();
@@ -178,12 +183,13 @@ public class RenderUtils {
      * Outline a building in the world.
      *
      * @param shapeRenderer the {@link ShapeRenderer} to draw lines to.
+     * @param context       the context of the game, for its scaling.
      * @param building      the building to outline.
      * @param colour        the colour of the border.
      * @param thickness     the thickness of the border.
      */
-    public static void outlineBuilding(ShapeRenderer shapeRenderer, Building building, Color colour, int thickness) {
-        float cellSize = getCellSize();
+    public static void outlineBuilding(ShapeRenderer shapeRenderer, GameContext context, Building building, Color colour, int thickness) {
+        float cellSize = getCellSize(context);
 
         // Set line thickness directly to GL as LibGdx does not have a way of doing this.
         Gdx.gl.glLineWidth(thickness);
@@ -207,10 +213,11 @@ public class RenderUtils {
     /**
      * Gets the cell size based on tile size and current scaling factor.
      *
+     * @param context the context of the game, for its scaling.
      * @return the cell size (in px).
      */
-    private static float getCellSize() {
-        GameState gameState = GameState.getState();
+    private static float getCellSize(GameContext context) {
+        GameState gameState = context.getGameState();
         return Constants.TILE_SIZE * gameState.scaleFactor;
     }
 
@@ -1,19 +1,21 @@
 package com.spacecomplexity.longboilife.game.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Stack;
 import java.util.Vector;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import com.spacecomplexity.longboilife.game.building.Building;
 import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingModifiers;
 import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.building.SatisfactionModifier;
 import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.globals.MainCamera;
 import com.spacecomplexity.longboilife.game.tile.Tile;
 import com.spacecomplexity.longboilife.game.tile.TileType;
 import com.spacecomplexity.longboilife.game.world.World;
@@ -22,11 +24,6 @@ import com.spacecomplexity.longboilife.game.world.World;
  * A class to handle calculation of satisfaction score.
  */
 public class Satisfaction {
-    // Scuffed way to get around world not being a global
-    private static World world = MainCamera.camera().world;
-    
-    private static AStar pathfinder;
-    
     /**
      * Struct that stores a building and a distance.
      */
@@ -41,21 +38,30 @@ public class Satisfaction {
     }
     
     public static class AStar {
+        private final World world;
+        private final int width;
         private PriorityQueue<Cell> queue;
-        private List<Vector2Int> visited;
+        // Whether each tile has been visited or added to the queue, indexed by y * width + x
+        // A tile stays marked as queued once taken from the queue, as it is then visited straight away
+        private final boolean[] visited;
+        private final boolean[] queued;
         private Stack<Vector2Int> shortestPath;
         private double minDistance = Double.MAX_VALUE;
         
         
-        public AStar() {
+        public AStar(World world) {
+            this.world = world;
+            width = world.getWidth();
             queue = new PriorityQueue<Cell>();
-            visited = new ArrayList<Vector2Int>();
+            visited = new boolean[width * world.getHeight()];
+            queued = new boolean[width * world.getHeight()];
             shortestPath = new Stack<Vector2Int>();
         }
         
         public void reset() {
             queue = new PriorityQueue<Cell>();
-            visited = new ArrayList<Vector2Int>();
+            Arrays.fill(visited, false);
+            Arrays.fill(queued, false);
             shortestPath = new Stack<Vector2Int>();
             minDistance = Double.MAX_VALUE;
         }
@@ -135,12 +141,16 @@ public class Satisfaction {
             return false;
         }
         
+        private int getIndex(Vector2Int tile) {
+            return tile.y * width + tile.x;
+        }
+        
         private boolean isVisited(Vector2Int tile) { 
-            return visited.contains(tile);
+            return visited[getIndex(tile)];
         }
         
-        private boolean isPlannedToVisit(Cell tile) {
-            return queue.contains(tile);
+        private boolean isPlannedToVisit(Vector2Int tile) {
+            return queued[getIndex(tile)];
         }
         
         private double getMoveSpeed(Vector2Int tileLocation) {
@@ -192,67 +202,74 @@ public class Satisfaction {
         }
         
         public double pathfind(Vector2Int tile, Vector2Int goal) {
-            if (tile.equals(goal)) {
-                return getPathLength();
-            }
+            // Iterate rather than recurse so long paths on large worlds cannot overflow the stack
+            while (true) {
+                if (tile.equals(goal)) {
+                    return getPathLength();
+                }
             
-            visited.add(tile);
-            boolean backtracking = true;
+                // The start may be outside of the map, such as below a building on the bottom edge
+                if (world.getTile(tile) != null) {
+                    visited[getIndex(tile)] = true;
+                }
+                boolean backtracking = true;
             
-            for (Vector2Int neighbour : getNeighbours(tile)) {
-                // If the tile is traversable and hasn't already been added to the queue/visited
-                if (isTraversable(neighbour) && 
-                    !isVisited(neighbour) &&
-                    !isPlannedToVisit(new Cell(neighbour, getHeuristic(neighbour, goal)))) {
+                for (Vector2Int neighbour : getNeighbours(tile)) {
+                    // If the tile is traversable and hasn't already been added to the queue/visited
+                    if (isTraversable(neighbour) && 
+                        !isVisited(neighbour) &&
+                        !isPlannedToVisit(neighbour)) {
                     
-                    // Get distance away from the goal from this tile, taking into account the move speed of that tile (i.e. whether it is a road or not)
-                    double heuristic = getHeuristic(neighbour, goal);
-                    // Add tile to priority queue
-                    queue.add(new Cell(neighbour, heuristic));
+                        // Get distance away from the goal from this tile, taking into account the move speed of that tile (i.e. whether it is a road or not)
+                        double heuristic = getHeuristic(neighbour, goal);
+                        // Add tile to priority queue
+                        queue.add(new Cell(neighbour, heuristic));
+                        queued[getIndex(neighbour)] = true;
                     
-                    double nextShortest = queue.peek().heuristic;
-                    if (heuristic <= nextShortest) {
-                        backtracking = false;
+                        double nextShortest = queue.peek().heuristic;
+                        if (heuristic <= nextShortest) {
+                            backtracking = false;
+                        }
                     }
                 }
-            }
             
-            if (queue.isEmpty()) {
-                // No possible path
-                // Should raise a warning to the player for the accommodation building
-                // i.e. something like "Warning! Students cannot reach this building."
-                return Double.MAX_VALUE;
-            }
-            if (minDistance > 200 && minDistance != Double.MAX_VALUE) {
-                // Shortest possible path is way too long
-                return minDistance;
-            }
+                if (queue.isEmpty()) {
+                    // No possible path
+                    // Should raise a warning to the player for the accommodation building
+                    // i.e. something like "Warning! Students cannot reach this building."
+                    return Double.MAX_VALUE;
+                }
+                if (minDistance > 200 && minDistance != Double.MAX_VALUE) {
+                    // Shortest possible path is way too long
+                    return minDistance;
+                }
             
-            // Get the tile with the lowest heuristic
-            Cell nextTile = queue.poll();
-            minDistance = nextTile.heuristic;
+                // Get the tile with the lowest heuristic
+                Cell nextTile = queue.poll();
+                minDistance = nextTile.heuristic;
             
-            if (backtracking) {
-                // Removes elements from shortestPath until it reaches nextTile
-                backtrackTo(nextTile.tile);
-            }
-            else {
-                shortestPath.add(nextTile.tile);
-            }
+                if (backtracking) {
+                    // Removes elements from shortestPath until it reaches nextTile
+                    backtrackTo(nextTile.tile);
+                }
+                else {
+                    shortestPath.add(nextTile.tile);
+                }
             
-            // Continue pathfinding from the best option tile (the one with the lowest heuristic)
-            return pathfind(nextTile.tile, goal);
+                // Continue pathfinding from the best option tile (the one with the lowest heuristic)
+                tile = nextTile.tile;
+            }
         }
     }
     
-    public static double getBuildingDistance(Vector2Int start, Vector2Int end) {
+    public static double getBuildingDistance(AStar pathfinder, Vector2Int start, Vector2Int end) {
         // Clears the leftover data from any previous pathfinding operations
         pathfinder.reset();
         
         return pathfinder.pathfind(start, end);
     }
     
-    public static List<BuildingDistance> getBuildingDistances(Building startBuilding, List<Building> targetBuildings) {
+    public static List<BuildingDistance> getBuildingDistances(AStar pathfinder, Building startBuilding, List<Building> targetBuildings) {
         List<BuildingDistance> buildingDistances = new ArrayList<BuildingDistance>();
         
         for (Building building : targetBuildings) {
@@ -262,7 +279,7 @@ public class Satisfaction {
             Vector2Int end = building.getPosition().add(new Vector2Int(1, -1));
             
             // Get the shortest distance from the start to the building position
-            double distance = getBuildingDistance(start, end);
+            double distance = getBuildingDistance(pathfinder, start, end);
             
             // Add the distance and building to the list
             BuildingDistance bd = new BuildingDistance(distance, building);
@@ -450,9 +467,10 @@ public class Satisfaction {
     /**
      * (See explanation within the function)
      *
-     * @param world the world reference for buildings.
+     * @param world     the world reference for buildings.
+     * @param gameState the game state to update with the new score.
      */
-    public static void updateSatisfactionScore(World world) {
+    public static void updateSatisfactionScore(World world, GameState gameState) {
         // Implementation of satisfaction score:
         
         /** 
@@ -493,8 +511,9 @@ public class Satisfaction {
          */
 
 
-        pathfinder = new AStar();
+        AStar pathfinder = new AStar(world);
         Vector<Building> buildings = world.getBuildings();
+        BuildingModifiers modifiers = world.getModifiers();
 
         // Gets a list of all the accommodation buildings
         List<Building> accommodationBuildings = getAccommodationBuildings(buildings);
@@ -505,13 +524,13 @@ public class Satisfaction {
         double totalSatisfaction = 0;
         for (Building accommodation : accommodationBuildings) {
             // Gets the distances from the accommodation building to each utility building
-            List<BuildingDistance> buildingDistances = getBuildingDistances(accommodation, utilityBuildings);
+            List<BuildingDistance> buildingDistances = getBuildingDistances(pathfinder, accommodation, utilityBuildings);
             
             // Calculates the satisfaction score based on the number, type, and distances of each building
             double satisfaction = getSatisfactionScore(buildingDistances);
             
             // Apply event modifiers as percentage modifiers
-            double eventModifier = getSatisfactionEventModifiers(accommodation);
+            double eventModifier = modifiers.getSatisfactionDelta(accommodation.getId());
             satisfaction = satisfaction * (1 + eventModifier/100.0);
             
             // Clamp satisfaction between 0 and 100%
@@ -532,50 +551,35 @@ public class Satisfaction {
         averageSatisfaction = Math.round(averageSatisfaction * 100.0) / 100.0;
         
         // Update game state with the new satisfaction score!
-        GameState.getState().satisfactionScore = averageSatisfaction;
+        gameState.satisfactionScore = averageSatisfaction;
     }
     
     
-    private static double getSatisfactionEventModifiers(Building accommodation) {
-        return accommodation.getSatisfactionModifier();
-    }
-    
-    private static void addSatisfactionEventModifiers(List<Building> buildings, double satisfactionModifier, String satisfactionInfo) {
+    private static void addSatisfactionEventModifiers(World world, List<Building> buildings, SatisfactionModifier modifier) {
         for (Building building : buildings) {
-            addSatisfactionEventModifier(building, satisfactionModifier, satisfactionInfo);
+            addSatisfactionEventModifier(world, building, modifier);
         }
     }
     
-    private static void addSatisfactionEventModifier(Building building, double satisfactionModifier, String satisfactionInfo) {
-        
+    private static void addSatisfactionEventModifier(World world, Building building, SatisfactionModifier modifier) {
         // If the building doesn't already have the event triggered
-        if (!building.getSatisfactionInfo().contains(satisfactionInfo)) {
+        if (building.addSatisfactionModifier(modifier)) {
             // Adds the satisfaction modifier to the building
-            building.setSatisfactionModifier(building.getSatisfactionModifier() + satisfactionModifier);
-            
-            // Formats the satisfaction modifier info string
-            String sign = "+";
-            if (satisfactionModifier < 0) {
-                sign = "-";
-            }
-            String info = satisfactionInfo + ": " + sign + satisfactionModifier;
-            
-            // Adds the satisfaction info string to the end of the building's satisfaction info
-            building.setSatisfactionInfo(building.getSatisfactionInfo() + "\n" + info);
+            world.getModifiers().addSatisfactionDelta(building.getId(), modifier.value());
         }
     }
     
-    public static void halfPriceEvent() {
+    public static void halfPriceEvent(World world, double time) {
         Vector<Building> buildings = world.getBuildings();
         
         // Gets a list of all the accommodation buildings
         List<Building> accommodationBuildings = getAccommodationBuildings(buildings);
         
         // Adds a satisfaction bonus of 10% to all currently built accommodation buildings
-        addSatisfactionEventModifiers(accommodationBuildings, 10, "Half-price sausage rolls");
+        addSatisfactionEventModifiers(world, accommodationBuildings, new SatisfactionModifier(SatisfactionModifier.Source.HALF_PRICE, 10, time));
     }
     
-    public static void dirtyBuildingEvent() {
+    public static void dirtyBuildingEvent(World world, RandomGenerator rng, double time) {
         Vector<Building> buildings = world.getBuildings();
         
         // Gets a list of all the accommodation buildings
@@ -583,14 +587,14 @@ public class Satisfaction {
         int accommodationCount = accommodationBuildings.size();
         
         // Gets a random accommodation building
-        Random rng = new Random();
         Building randomAccommodation = accommodationBuildings.get(rng.nextInt(accommodationCount));
         
         // Adds a satisfaction penalty of 10% to the accommodation building
-        addSatisfactionEventModifier(randomAccommodation, -10, "Drunk students");
+        addSatisfactionEventModifier(world, randomAccommodation, new SatisfactionModifier(SatisfactionModifier.Source.DRUNK_STUDENTS, -10, time));
     }
     
-    public static double snowEventDistance() {
+    public static double snowEventDistance(World world) {
+        AStar pathfinder = new AStar(world);
         Vector<Building> buildings = world.getBuildings();
         
         // Gets a list of all the accommodation buildings
@@ -601,7 +605,7 @@ public class Satisfaction {
         
         double totalDistance = 0;
         for (Building accommodation : accommodationBuildings) {
-            List<BuildingDistance> bds = getBuildingDistances(accommodation, educationBuildings);
+            List<BuildingDistance> bds = getBuildingDistances(pathfinder, accommodation, educationBuildings);
             
             double shortestDistance = Double.MAX_VALUE;
             for (BuildingDistance bd : bds) {
@@ -616,30 +620,30 @@ public class Satisfaction {
         return totalDistance / accommodationBuildings.size();
     }
     
-    public static void lightSnowEvent() {
+    public static void lightSnowEvent(World world, double time) {
         Vector<Building> buildings = world.getBuildings();
         
         // Gets a list of all the accommodation buildings
         List<Building> accommodationBuildings = getAccommodationBuildings(buildings);
         
-        addSatisfactionEventModifiers(accommodationBuildings, 5, "Snow");
+        addSatisfactionEventModifiers(world, accommodationBuildings, new SatisfactionModifier(SatisfactionModifier.Source.SNOW, 5, time));
     }
     
-    public static void heavySnowEvent() {
+    public static void heavySnowEvent(World world, double time) {
         Vector<Building> buildings = world.getBuildings();
         
         // Gets a list of all the accommodation buildings
         List<Building> accommodationBuildings = getAccommodationBuildings(buildings);
         
-        addSatisfactionEventModifiers(accommodationBuildings, -5, "Heavy snow");
+        addSatisfactionEventModifiers(world, accommodationBuildings, new SatisfactionModifier(SatisfactionModifier.Source.HEAVY_SNOW, -5, time));
     }
     
-    public static void heatwaveEvent() {
+    public static void heatwaveEvent(World world, double time) {
         Vector<Building> buildings = world.getBuildings();
         
         // Gets a list of all the accommodation buildings
         List<Building> accommodationBuildings = getAccommodationBuildings(buildings);
         
-        addSatisfactionEventModifiers(accommodationBuildings, -5, "Heatwave");
+        addSatisfactionEventModifiers(world, accommodationBuildings, new SatisfactionModifier(SatisfactionModifier.Source.HEATWAVE, -5, time));
     }
 }
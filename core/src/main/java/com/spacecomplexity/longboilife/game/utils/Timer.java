@@ -1,20 +1,15 @@
 package com.spacecomplexity.longboilife.game.utils;
 
-import com.spacecomplexity.longboilife.game.globals.Constants;
-
 /**
- * Class to represent a simple timer
+ * Class to represent a simple timer.
+ * <p>
+ * The timer counts down in simulated time, it is only advanced by {@link Timer#update(float)} so it is not tied to
+ * real time or the frame rate.
  */
 public class Timer {
-    private long finishTime;
-    private long onPauseTime;
+    private double timeLeft;
     private boolean paused;
 
-    private boolean eventCalled;
-    private Runnable event;
-    
-    private long lastEventPoll;
-    
     public enum SEASON {
         FALL,
         WINTER,
@@ -25,50 +20,47 @@ public class Timer {
     /**
      * Create a new timer object.
      * <p>
-     * {@link Timer#setTimer(long)} and {@link Timer#setEvent(Runnable)} should be used to initialise the timer.
+     * {@link Timer#setTimer(long)} should be used to initialise the timer.
      */
     public Timer() {
     }
 
-    public void setEvent(Runnable event) {
-        this.event = event;
-    }
-
     /**
      * Start a new timer with specified duration.
      *
      * @param duration duration of timer in ms.
      */
     public void setTimer(long duration) {
-        finishTime = System.currentTimeMillis() + duration;
+        timeLeft = duration;
         paused = false;
-        eventCalled = false;
-        lastEventPoll = duration;
+    }
+
+    /**
+     * Advance the timer by an amount of simulated time.
+     * <p>
+     * This does nothing if the timer is paused.
+     *
+     * @param delta the time passed in seconds.
+     */
+    public void update(float delta) {
+        if (paused) {
+            return;
+        }
+
+        timeLeft = Math.max(0, timeLeft - delta * 1000d);
     }
 
     /**
      * Pause the currently running timer.
      */
     public void pauseTimer() {
-        onPauseTime = System.currentTimeMillis();
         paused = true;
     }
 
     /**
      * Resume the paused timer.
-     *
-     * @throws IllegalStateException if the timer has not been previously paused.
      */
-    public void resumeTimer() throws IllegalStateException {
-        if (!paused) {
-            //throw new IllegalStateException("Timer has not been paused");
-            pauseTimer();
-        }
-
-        // Calculate the time the timer has been paused for and add this onto the finishing time
-        long pausedTime = System.currentTimeMillis() - onPauseTime;
-        finishTime += pausedTime;
-
+    public void resumeTimer() {
         paused = false;
     }
 
@@ -78,67 +70,35 @@ public class Timer {
      * @return the time left in ms.
      */
     public long getTimeLeft() {
-        long timeLeft;
-        if (paused) {
-            timeLeft = finishTime - onPauseTime;
-        } else {
-            timeLeft = finishTime - System.currentTimeMillis();
-        }
-        return Math.max(0, timeLeft);  // Never return negative values
+        return (long) timeLeft;
     }
 
     /**
-     * Return whether the timer is currently paused.
+     * Retrieve exactly how much time is left for the timer, without rounding to the millisecond.
      *
-     * @return whether the timer is currently paused.
+     * @return the time left in ms.
      */
-    public boolean isPaused() {
-        return paused;
+    public double getExactTimeLeft() {
+        return timeLeft;
     }
 
     /**
-     * Polls the current time and will run the event if this time has passed.
+     * Set how much time is left for the timer, such as when restoring a saved game.
+     * <p>
+     * Unlike {@link Timer#setTimer(long)} this keeps the timer's paused state.
      *
-     * @return whether the time has passed.
+     * @param timeLeft the time left in ms.
      */
-    public boolean poll() {
-        if (getTimeLeft() <= 0) {
-            if (!eventCalled) {
-                event.run();
-                eventCalled = true;
-            }
-            
-            return true;
-        }
-
-        return false;
-    }
-    
-    public void pollGameEvents() {
-        long timeLeft = getTimeLeft();
-        
-        // If the game is not paused, not ended, and at least a second has passed since the last event poll
-        if (!paused && timeLeft > 0 && lastEventPoll - timeLeft >= 1000) {
-            lastEventPoll = timeLeft;
-            Events.pollEventTriggers();
-        }
+    public void setTimeLeft(double timeLeft) {
+        this.timeLeft = timeLeft;
     }
-    
-    public SEASON getSeason() {
-        long timeLeft = getTimeLeft();
-        long quarter = Constants.GAME_LENGTH * 250;
-        
-        if (timeLeft < quarter) {
-            return SEASON.SUMMER;
-        }
-        else if (timeLeft < 2 * quarter) {
-            return SEASON.SPRING;
-        }
-        else if (timeLeft < 3 * quarter) {
-            return SEASON.WINTER;
-        }
-        else {
-            return SEASON.FALL;
-        }
+
+    /**
+     * Return whether the timer is currently paused.
+     *
+     * @return whether the timer is currently paused.
+     */
+    public boolean isPaused() {
+        return paused;
     }
 }
@@ -5,6 +5,7 @@ import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.SerializationException;
 import com.spacecomplexity.longboilife.game.building.Building;
 import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingModifiers;
 import com.spacecomplexity.longboilife.game.building.BuildingType;
 import com.spacecomplexity.longboilife.game.globals.GameState;
 import com.spacecomplexity.longboilife.game.pathways.PathwayPositions;
@@ -23,17 +24,22 @@ import java.util.Vector;
  */
 public class World {
     private Tile[][] world;
+    private final GameState gameState;
     public Vector<Building> buildings;
     public PathwayPositions[][] pathways;
+    private final BuildingModifiers modifiers = new BuildingModifiers();
 
     /**
      * Creates a new world loaded from a map JSON file.
      *
-     * @param mapFile the handle to the JSON file containing map.
+     * @param mapFile   the handle to the JSON file containing map.
+     * @param gameState the state of the game this world belongs to, which keeps count of the buildings.
      * @throws FileNotFoundException   if the specified file does not exist.
      * @throws InvalidSaveMapException if the map contains invalid tile names.
      */
-    public World(FileHandle mapFile) throws FileNotFoundException, InvalidSaveMapException {
+    public World(FileHandle mapFile, GameState gameState) throws FileNotFoundException, InvalidSaveMapException {
+        this.gameState = gameState;
+
         // If the file does not exist throw an exception
         if (!mapFile.exists()) {
             throw new FileNotFoundException("File does not exist: \"" + mapFile.name() + "\"");
@@ -58,6 +64,27 @@ public class World {
         }
     }
 
+    /**
+     * Creates a new world from an existing tile grid with no buildings.
+     * <p>
+     * Buildings should then be placed using {@link World#build(BuildingType, Vector2Int)} so that all world state is kept consistent.
+     *
+     * @param tiles     the tile grid, accessed as {@code tiles[x][y]}.
+     * @param gameState the state of the game this world belongs to, which keeps count of the buildings.
+     * @throws InvalidSaveMapException if the grid has no width or height.
+     */
+    public World(Tile[][] tiles, GameState gameState) throws InvalidSaveMapException {
+        this.gameState = gameState;
+
+        if (tiles.length == 0 || tiles[0].length == 0) {
+            throw new InvalidSaveMapException("World has no width or height");
+        }
+
+        world = tiles;
+        buildings = new Vector<>();
+        pathways = new PathwayPositions[getWidth()][getHeight()];
+    }
+
     /**
      * Retrieves the tile at the specified coordinates.
      *
@@ -176,13 +203,19 @@ public class World {
 
         buildings.add(building);
 
+        // Give the building an id the first time it is built, moved buildings keep their modifiers
+        if (building.getId() == BuildingModifiers.NO_ID) {
+            building.setId(modifiers.allocate());
+        }
+        modifiers.setBaseProfit(building.getId(), building.getType().getProfitPerTick());
+
         // If building is a pathway then calculate and add the type to the pathways grid
         if (building.getType().getCategory() == BuildingCategory.PATHWAY) {
-            updatePathwayPosition(buildingPosition);
+            updatePathwayPositions(buildingPosition);
         }
 
         // Update the game state counter with the new building
-        GameState.getState().changeBuildingCount(building.getType(), 1);
+        gameState.changeBuildingCount(building.getType(), 1);
     }
 
     /**
@@ -203,29 +236,18 @@ public class World {
         }
 
         buildings.remove(building);
+        // The building no longer earns anything, although it keeps its modifiers in case it is being moved
+        modifiers.setBaseProfit(building.getId(), 0);
 
         if (building.getType().getCategory() == BuildingCategory.PATHWAY) {
             pathways[buildingPosition.x][buildingPosition.y] = null;
 
-            BuildingType thisBuildingType = building.getType();
-
-            // Get neighbouring pathways
-            Vector2Int[] neighbours = new Vector2Int[]{
-                new Vector2Int(buildingPosition.x, buildingPosition.y + 1),
-                new Vector2Int(buildingPosition.x + 1, buildingPosition.y),
-                new Vector2Int(buildingPosition.x, buildingPosition.y - 1),
-                new Vector2Int(buildingPosition.x - 1, buildingPosition.y)
-            };
-            for (Vector2Int neighbour : neighbours) {
-                if (isOurPathway(neighbour, thisBuildingType)) {
-                    updatePathwayPosition(neighbour);
-
-                }
-            }
+            // Update the layouts of neighbouring pathways
+            updatePathwayPositions(buildingPosition);
         }
 
         // Update the game state counter with the removal of the building
-        GameState.getState().changeBuildingCount(building.getType(), -1);
+        gameState.changeBuildingCount(building.getType(), -1);
     }
 
 
@@ -255,11 +277,31 @@ public class World {
     };
 
     /**
-     * Update the pathways on the board recursively starting at the coordinates given.
+     * Update the pathway at the coordinates given and the pathways directly neighbouring it.
+     * <p>
+     * The layout of a pathway only depends on its four neighbours, so placing or removing a pathway can only change
+     * the layout of itself and these neighbours.
+     *
+     * @param coordinate the coordinate of the pathway.
+     */
+    private void updatePathwayPositions(Vector2Int coordinate) {
+        updatePathwayPosition(coordinate);
+        updatePathwayPosition(new Vector2Int(coordinate.x, coordinate.y + 1));
+        updatePathwayPosition(new Vector2Int(coordinate.x + 1, coordinate.y));
+        updatePathwayPosition(new Vector2Int(coordinate.x, coordinate.y - 1));
+        updatePathwayPosition(new Vector2Int(coordinate.x - 1, coordinate.y));
+    }
+
+    /**
+     * Update the layout of a single pathway from its neighbouring pathways.
      *
      * @param coordinate the coordinate of the pathway.
      */
     private void updatePathwayPosition(Vector2Int coordinate) {
+        // If this is outside the world then do nothing
+        if (!isInWorld(coordinate)) {
+            return;
+        }
         // If there is no building on this tile then do nothing.
         Building thisBuilding = getTile(coordinate).getBuildingRef();
         if (thisBuilding == null) {
@@ -271,26 +313,6 @@ public class World {
             return;
         }
 
-        // Call recursive function with an empty vector as no pathways have been set
-        updatePathwayPosition(coordinate, new Vector<>());
-    }
-
-    /**
-     * Update the pathways on the board recursively starting at the coordinates given.
-     * <p>
-     * This should only be called recursive from this function and the starter function.
-     *
-     * @param coordinate      the coordinate of the pathway.
-     * @param updatedPathways a list of all pathways which have already been updated.
-     */
-    private void updatePathwayPosition(Vector2Int coordinate, Vector<Vector2Int> updatedPathways) {
-        // If this pathway has already been done then ignore
-        if (updatedPathways.contains(coordinate)) {
-            return;
-        }
-
-        BuildingType thisBuildingType = getTile(coordinate).getBuildingRef().getType();
-
         // Get neighbouring pathways
         boolean top = isOurPathway(new Vector2Int(coordinate.x, coordinate.y + 1), thisBuildingType);
         boolean right = isOurPathway(new Vector2Int(coordinate.x + 1, coordinate.y), thisBuildingType);
@@ -306,23 +328,6 @@ public class World {
         }
 
         pathways[coordinate.x][coordinate.y] = position;
-
-        // Recursively set nearby pathways positions
-        // The initial checks have already been done as `isOurPathway` will only return true if these passed
-        updatedPathways.add(new Vector2Int(coordinate.x, coordinate.y));
-
-        if (top) {
-            updatePathwayPosition(new Vector2Int(coordinate.x, coordinate.y + 1), updatedPathways);
-        }
-        if (right) {
-            updatePathwayPosition(new Vector2Int(coordinate.x + 1, coordinate.y), updatedPathways);
-        }
-        if (bottom) {
-            updatePathwayPosition(new Vector2Int(coordinate.x, coordinate.y - 1), updatedPathways);
-        }
-        if (left) {
-            updatePathwayPosition(new Vector2Int(coordinate.x - 1, coordinate.y), updatedPathways);
-        }
     }
 
     /**
@@ -432,4 +437,13 @@ public class World {
     public Vector<Building> getBuildings() {
         return buildings;
     }
+
+    /**
+     * Get the modifiers game events have applied to the buildings of this world.
+     *
+     * @return the modifiers, indexed by {@link Building#getId()}.
+     */
+    public BuildingModifiers getModifiers() {
+        return modifiers;
+    }
 }
@@ -0,0 +1,256 @@
+package com.spacecomplexity.longboilife.game.world;
+
+import com.spacecomplexity.longboilife.game.building.BuildingCategory;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.tile.Tile;
+import com.spacecomplexity.longboilife.game.tile.TileType;
+import com.spacecomplexity.longboilife.game.utils.Vector2Int;
+
+import java.util.EnumMap;
+import java.util.Random;
+
+/**
+ * Seeded procedural generator for campus worlds of any size.
+ * <p>
+ * Generated worlds contain lakes of {@link TileType#WATER}, a grid of roads and a configurable density of each
+ * {@link BuildingType}. Everything is placed through {@link World#build(BuildingType, Vector2Int)} so the world
+ * (and game state counters) are identical to a world loaded from a map file.
+ * <p>
+ * The same seed and settings will always produce the same world.
+ */
+public class WorldGenerator {
+    private final long seed;
+    private final int width;
+    private final int height;
+
+    /**
+     * The number of lakes to generate per 64x64 area of the world.
+     */
+    public float lakesPerArea = 0.5f;
+
+    /**
+     * The minimum radius of a lake (in tiles).
+     */
+    public int minLakeRadius = 2;
+
+    /**
+     * The maximum radius of a lake (in tiles).
+     */
+    public int maxLakeRadius = 8;
+
+    /**
+     * The distance between each road of the road grid (in tiles).
+     * <p>
+     * If 0 or less no roads will be generated.
+     */
+    public int roadSpacing = 16;
+
+    /**
+     * The number of each building to generate per tile of the world.
+     * <p>
+     * This is initialised in the constructor.
+     */
+    private final EnumMap<BuildingType, Float> buildingDensities;
+
+    /**
+     * The number of random positions tried for each building before it is skipped.
+     */
+    public int placementAttempts = 20;
+
+    /**
+     * Create a generator for a world of the specified size.
+     *
+     * @param seed   the seed used for all random decisions.
+     * @param width  the width of the world (in tiles).
+     * @param height the height of the world (in tiles).
+     * @throws IllegalArgumentException if the width or height is not positive.
+     */
+    public WorldGenerator(long seed, int width, int height) throws IllegalArgumentException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("World size must be positive: " + width + "x" + height);
+        }
+
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+
+        // Default densities give roughly the same mix of buildings as a played game per 64x32 area
+        buildingDensities = new EnumMap<>(BuildingType.class);
+        for (BuildingType type : BuildingType.values()) {
+            if (type.getCategory() != BuildingCategory.PATHWAY) {
+                buildingDensities.put(type, 1f / 2048);
+            }
+        }
+    }
+
+    /**
+     * Set the number of a building to generate per tile of the world.
+     * <p>
+     * For example a density of {@code 1f / 1024} on a 64x64 world will attempt to place 4 of this building.
+     *
+     * @param buildingType the building type.
+     * @param density      the number of this building per tile.
+     */
+    public void setBuildingDensity(BuildingType buildingType, float density) {
+        buildingDensities.put(buildingType, density);
+    }
+
+    /**
+     * Get the number of a building to generate per tile of the world.
+     *
+     * @param buildingType the building type.
+     * @return the number of this building per tile.
+     */
+    public float getBuildingDensity(BuildingType buildingType) {
+        Float density = buildingDensities.get(buildingType);
+        // If this has not yet been set return 0
+        if (density == null) {
+            return 0;
+        }
+
+        return density;
+    }
+
+    /**
+     * Generate a new world with the current settings.
+     *
+     * @param gameState the state of the game the world belongs to.
+     * @return the generated world.
+     */
+    public World generate(GameState gameState) {
+        Random rng = new Random(seed);
+
+        World world = new World(generateTiles(rng), gameState);
+        generateRoads(world);
+        generateBuildings(world, rng);
+
+        return world;
+    }
+
+    /**
+     * Generate the base tiles of the world, made up of grass with lakes scattered throughout.
+     *
+     * @param rng the random number generator to use.
+     * @return the 2D {@link Tile} grid, accessed as {@code tiles[x][y]}.
+     */
+    private Tile[][] generateTiles(Random rng) {
+        // Create a grid of water tiles to mark where lakes are
+        boolean[][] water = new boolean[width][height];
+
+        int lakeCount = Math.round(lakesPerArea * width * height / (64 * 64));
+        for (int i = 0; i < lakeCount; i++) {
+            // Each lake is an ellipse with a random center and radii
+            int centerX = rng.nextInt(width);
+            int centerY = rng.nextInt(height);
+            int radiusX = minLakeRadius + rng.nextInt(Math.max(1, maxLakeRadius - minLakeRadius + 1));
+            int radiusY = minLakeRadius + rng.nextInt(Math.max(1, maxLakeRadius - minLakeRadius + 1));
+
+            for (int x = Math.max(0, centerX - radiusX); x <= Math.min(width - 1, centerX + radiusX); x++) {
+                for (int y = Math.max(0, centerY - radiusY); y <= Math.min(height - 1, centerY + radiusY); y++) {
+                    float dx = (x - centerX) / (float) radiusX;
+                    float dy = (y - centerY) / (float) radiusY;
+                    if (dx * dx + dy * dy <= 1) {
+                        water[x][y] = true;
+                    }
+                }
+            }
+        }
+
+        // Transform this into the tile grid
+        Tile[][] tiles = new Tile[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                tiles[x][y] = new Tile(water[x][y] ? TileType.WATER : TileType.GRASS);
+            }
+        }
+
+        return tiles;
+    }
+
+    /**
+     * Build a grid of roads across the world, skipping any tiles which cannot be built on (such as lakes).
+     *
+     * @param world the world to build the roads in.
+     */
+    private void generateRoads(World world) {
+        if (roadSpacing <= 0) {
+            return;
+        }
+
+        // Vertical roads
+        for (int x = roadSpacing / 2; x < width; x += roadSpacing) {
+            for (int y = 0; y < height; y++) {
+                buildIfPossible(world, BuildingType.ROAD, new Vector2Int(x, y));
+            }
+        }
+
+        // Horizontal roads
+        for (int y = roadSpacing / 2; y < height; y += roadSpacing) {
+            for (int x = 0; x < width; x++) {
+                buildIfPossible(world, BuildingType.ROAD, new Vector2Int(x, y));
+            }
+        }
+    }
+
+    /**
+     * Place buildings randomly throughout the world given the densities of each building type.
+     *
+     * @param world the world to build the buildings in.
+     * @param rng   the random number generator to use.
+     */
+    private void generateBuildings(World world, Random rng) {
+        // Go through building types in a fixed order so the same seed always gives the same world
+        for (BuildingType type : BuildingType.values()) {
+            int count = Math.round(getBuildingDensity(type) * width * height);
+            Vector2Int size = type.getSize();
+
+            // If the building is larger than the world it can never be placed
+            if (size.x > width || size.y > height) {
+                continue;
+            }
+
+            for (int i = 0; i < count; i++) {
+                // Try random positions until the building fits or we run out of attempts
+                for (int attempt = 0; attempt < placementAttempts; attempt++) {
+                    Vector2Int position = new Vector2Int(
+                        rng.nextInt(width - size.x + 1),
+                        rng.nextInt(height - size.y + 1)
+                    );
+                    if (buildIfPossible(world, type, position)) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Build a building if it is in a valid position.
+     *
+     * @param world        the world to build in.
+     * @param buildingType the building to build.
+     * @param position     the position of the building.
+     * @return whether the building was built.
+     */
+    private boolean buildIfPossible(World world, BuildingType buildingType, Vector2Int position) {
+        if (!world.canBuild(buildingType, position)) {
+            return false;
+        }
+
+        world.build(buildingType, position);
+        return true;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
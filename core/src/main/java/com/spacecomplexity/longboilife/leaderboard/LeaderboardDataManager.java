@@ -2,65 +2,307 @@ package com.spacecomplexity.longboilife.leaderboard;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+import com.spacecomplexity.longboilife.game.utils.FileUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Arrays;
-import java.util.stream.Collectors;
 
+/**
+ * Class to store the leaderboard.
+ * <p>
+ * Entries are stored in an append-only log, with one entry written as a line of JSON at the end of the file each time
+ * a score is saved, so saving never reads or rewrites the rest of the file. The log is read once, the first time the
+ * leaderboard is used, keeping only the best entry of each player.
+ * <p>
+ * Each player's best entry is found through a hash index, and the best entries are kept in a list sorted by score, so
+ * finding a player's rank costs {@code O(log n)} and reading a page of the leaderboard never touches the disk.
+ * <p>
+ * Once the log holds many more entries than are kept it is compacted, rewriting it with only the kept entries.
+ */
 public class LeaderboardDataManager {
-    private static final String LEADERBOARD_FILE = "leaderboard.json";
+    private static final String LOG_FILE = "leaderboard.jsonl";
+    // The format the leaderboard was stored in before, read if there is no log yet
+    private static final String LEGACY_FILE = "leaderboard.json";
+
+    // Compact the log once it has this many entries and more than twice as many as are kept
+    private static final int COMPACT_THRESHOLD = 256;
+
+    private static LeaderboardDataManager instance;
+
+    /**
+     * An entry along with the order it was added, so equal scores are ordered with the earliest first.
+     */
+    private record RankedEntry(LeaderboardEntry entry, long sequence) implements Comparable<RankedEntry> {
+        @Override
+        public int compareTo(RankedEntry other) {
+            int compare = Float.compare(other.entry.getScore(), entry.getScore());
+            if (compare != 0) {
+                return compare;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
     private final Json json;
-    
-    public LeaderboardDataManager() {
+    // The best entry of each player, and these entries in descending order of score
+    private final HashMap<String, RankedEntry> bestByPlayer = new HashMap<>();
+    private final ArrayList<RankedEntry> ranking = new ArrayList<>();
+    private long nextSequence = 0;
+    private String lastSavedUsername;
+
+    // The number of entries in the log file, including any which are no longer kept
+    private int logSize = 0;
+    private boolean loaded = false;
+
+    private LeaderboardDataManager() {
         json = new Json();
         json.setOutputType(JsonWriter.OutputType.json);
         json.setUsePrototypes(false);
     }
-    
+
+    public static LeaderboardDataManager getInstance() {
+        if (instance == null) {
+            instance = new LeaderboardDataManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the best entry of every player.
+     *
+     * @return the entries in descending order of score.
+     */
     public List<LeaderboardEntry> loadLeaderboard() {
+        return getPage(0, getPlayerCount());
+    }
+
+    /**
+     * Add entries to the leaderboard, appending them to the log.
+     *
+     * @param newEntries the entries to add.
+     */
+    public void saveLeaderboard(List<LeaderboardEntry> newEntries) {
+        ensureLoaded();
+
+        StringBuilder lines = new StringBuilder();
+        for (LeaderboardEntry entry : newEntries) {
+            if (!isValid(entry)) {
+                Gdx.app.error("LeaderboardDataManager", "Ignoring incomplete leaderboard entry");
+                continue;
+            }
+            insert(entry);
+            lines.append(json.toJson(entry)).append('\n');
+            logSize++;
+            lastSavedUsername = entry.getUsername();
+        }
+
+        if (lines.length() == 0) {
+            return;
+        }
+
         try {
-            FileHandle file = Gdx.files.local(LEADERBOARD_FILE);
-            if (!file.exists() || file.length() == 0) { //If file doesn't exist or is empty, return an empty ArrayList
-                return new ArrayList<>();
+            Gdx.files.local(LOG_FILE).writeString(lines.toString(), true, "UTF-8");
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("LeaderboardDataManager", "Error saving leaderboard", e);
+        }
+
+        if (logSize >= COMPACT_THRESHOLD && logSize > ranking.size() * 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Get the best entries, with at most one entry for each player.
+     *
+     * @param limit the maximum number of entries to get.
+     * @return the entries in descending order of score.
+     */
+    public List<LeaderboardEntry> getTopEntries(int limit) {
+        return getPage(0, limit);
+    }
+
+    /**
+     * Get a range of the best entries, with at most one entry for each player.
+     *
+     * @param from  the index of the first entry, where 0 is the best.
+     * @param count the maximum number of entries to get.
+     * @return the entries in descending order of score, this is empty if there are no entries in the range.
+     */
+    public List<LeaderboardEntry> getPage(int from, int count) {
+        ensureLoaded();
+
+        int start = Math.max(0, from);
+        int end = (int) Math.min(ranking.size(), (long) start + Math.max(0, count));
+        List<LeaderboardEntry> page = new ArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) {
+            page.add(ranking.get(i).entry());
+        }
+        return page;
+    }
+
+    /**
+     * Get the number of players on the leaderboard.
+     *
+     * @return the number of players, which is the number of entries {@link LeaderboardDataManager#getPage(int, int)}
+     * can return.
+     */
+    public int getPlayerCount() {
+        ensureLoaded();
+        return ranking.size();
+    }
+
+    /**
+     * Get the best entry of a player.
+     *
+     * @param username the username of the player.
+     * @return the entry, or null if the player is not on the leaderboard.
+     */
+    public LeaderboardEntry getBestEntry(String username) {
+        ensureLoaded();
+        RankedEntry best = bestByPlayer.get(username);
+        return best == null ? null : best.entry();
+    }
+
+    /**
+     * Get the rank of a player's best entry.
+     *
+     * @param username the username of the player.
+     * @return the rank, where 1 is the best, or -1 if the player is not on the leaderboard.
+     */
+    public int getRank(String username) {
+        ensureLoaded();
+        RankedEntry best = bestByPlayer.get(username);
+        return best == null ? -1 : Collections.binarySearch(ranking, best) + 1;
+    }
+
+    /**
+     * Get the username of the last entry saved since the game started.
+     *
+     * @return the username, or null if no entry has been saved.
+     */
+    public String getLastSavedUsername() {
+        return lastSavedUsername;
+    }
+
+    /**
+     * Add an entry, replacing the player's best entry if it has a higher score.
+     * <p>
+     * Finding where the entry goes costs {@code O(log n)}, and moving the entries after it in the list is a single
+     * array copy.
+     *
+     * @param entry the entry to add.
+     */
+    private void insert(LeaderboardEntry entry) {
+        RankedEntry ranked = new RankedEntry(entry, nextSequence++);
+        RankedEntry best = bestByPlayer.get(entry.getUsername());
+        if (best != null) {
+            // Equal scores keep the earlier entry
+            if (ranked.compareTo(best) >= 0) {
+                return;
+            }
+            ranking.remove(Collections.binarySearch(ranking, best));
+        }
+
+        bestByPlayer.put(entry.getUsername(), ranked);
+        // The sequence is unique so the entry is never found, and this gives where it should go
+        int index = -Collections.binarySearch(ranking, ranked) - 1;
+        ranking.add(index, ranked);
+    }
+
+    private static boolean isValid(LeaderboardEntry entry) {
+        return entry != null && entry.getUsername() != null && entry.getScore() != null;
+    }
+
+    /**
+     * Read the log into memory if it has not been already.
+     * <p>
+     * If there is no log but there is a leaderboard in the legacy format, its entries are written to a new log.
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        FileHandle log = Gdx.files.local(LOG_FILE);
+        if (log.exists()) {
+            readLog(log);
+            return;
+        }
+
+        FileHandle legacy = Gdx.files.local(LEGACY_FILE);
+        if (legacy.exists() && legacy.length() > 0) {
+            try {
+                LeaderboardEntry[] legacyEntries = json.fromJson(LeaderboardEntry[].class, legacy);
+                if (legacyEntries != null) {
+                    for (LeaderboardEntry entry : legacyEntries) {
+                        if (isValid(entry)) {
+                            insert(entry);
+                        }
+                    }
+                }
+                compact();
+            } catch (SerializationException e) {
+                Gdx.app.error("LeaderboardDataManager", "Error loading legacy leaderboard", e);
             }
-            String content = file.readString().trim();
-            if (content.isEmpty()) {
-                return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Read every entry in the log.
+     * <p>
+     * Lines which cannot be read (such as one cut off by the game closing while it was written) are skipped.
+     *
+     * @param log the handle to the log file.
+     */
+    private void readLog(FileHandle log) {
+        try (BufferedReader reader = log.reader(8192, "UTF-8")) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                logSize++;
+
+                try {
+                    LeaderboardEntry entry = json.fromJson(LeaderboardEntry.class, line);
+                    if (isValid(entry)) {
+                        insert(entry);
+                    }
+                } catch (SerializationException e) {
+                    Gdx.app.error("LeaderboardDataManager", "Skipping unreadable leaderboard entry: " + line);
+                }
             }
-            LeaderboardEntry[] entries = json.fromJson(LeaderboardEntry[].class, file);
-            return new ArrayList<>(Arrays.asList(entries));
-        } catch (Exception e) { //Error message
+        } catch (IOException | GdxRuntimeException e) {
             Gdx.app.error("LeaderboardDataManager", "Error loading leaderboard", e);
-            return new ArrayList<>();
         }
     }
-    
-    public void saveLeaderboard(List<LeaderboardEntry> entries) {
+
+    /**
+     * Rewrite the log with only the best entry of each player, in descending order of score.
+     * <p>
+     * The new log is written to a temporary file first, so the log is never left half written.
+     */
+    private void compact() {
+        StringBuilder lines = new StringBuilder();
+        for (RankedEntry ranked : ranking) {
+            lines.append(json.toJson(ranked.entry())).append('\n');
+        }
+
         try {
-            // Load existing entries
-            List<LeaderboardEntry> existingEntries = loadLeaderboard();
-            
-            // Add all new entries
-            existingEntries.addAll(entries);
-            
-            // Sort the combined list in descending order by score
-            existingEntries.sort((e1, e2) -> Float.compare(e2.getScore(), e1.getScore()));
-            
-            // Save the sorted list
-            FileHandle file = Gdx.files.local(LEADERBOARD_FILE);
-            String jsonString = json.prettyPrint(existingEntries);
-            file.writeString(jsonString, false);  // Use false to overwrite
-        } catch (Exception e) {
-            Gdx.app.error("LeaderboardDataManager", "Error saving leaderboard", e);
+            FileUtils.writeAtomically(Gdx.files.local(LOG_FILE), lines.toString());
+            logSize = ranking.size();
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("LeaderboardDataManager", "Error compacting leaderboard", e);
         }
     }
-    
-    public List<LeaderboardEntry> getTopEntries(int limit) {
-        List<LeaderboardEntry> allEntries = loadLeaderboard();
-        return allEntries.stream()
-            .limit(limit)
-            .collect(Collectors.toList());
-    }
-} 
\ No newline at end of file
+}
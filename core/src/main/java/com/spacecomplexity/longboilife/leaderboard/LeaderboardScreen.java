@@ -3,6 +3,7 @@ package com.spacecomplexity.longboilife.leaderboard;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
@@ -19,10 +20,10 @@ import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.spacecomplexity.longboilife.Main;
 import com.spacecomplexity.longboilife.MainInputManager;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.globals.Window;
 import java.util.List;
 import com.badlogic.gdx.Input.Keys;
-import com.spacecomplexity.longboilife.game.globals.GameState;
 
 /**
  * Main class to control the menu screen.
@@ -44,7 +45,18 @@ public class LeaderboardScreen implements Screen {
     private Skin skin;
 
     private LeaderboardDataManager dataManager;
-    private List<LeaderboardEntry> entries;
+
+    // Only the rows of the page being shown exist, and their labels are reused when the page changes
+    private static final int PAGE_SIZE = 10;
+    private final Label[] usernameLabels = new Label[PAGE_SIZE];
+    private final Label[] scoreLabels = new Label[PAGE_SIZE];
+    private Label pageLabel;
+    private TextButton previousButton;
+    private TextButton nextButton;
+    private int page = 0;
+
+    // The player who just saved a score, whose row is highlighted
+    private String highlightedUsername;
 
     private ShaderProgram blurShader;
     private static final float BLUR_RADIUS = 2.5f;
@@ -58,39 +70,32 @@ public class LeaderboardScreen implements Screen {
         stage = new Stage(viewport);
         batch = new SpriteBatch();
 
-        // Load and compile shaders
-        ShaderProgram.pedantic = false;
-        try {
-            String vertexShader = Gdx.files.internal("shaders/blur.vert").readString();
-            String fragmentShader = Gdx.files.internal("shaders/blur.frag").readString();
-
-            if (vertexShader == null || fragmentShader == null) {
-                throw new RuntimeException("Failed to load shader files");
-            }
-            
-            blurShader = new ShaderProgram(vertexShader, fragmentShader);
-            
-            if (!blurShader.isCompiled()) {
-                Gdx.app.error("Shader", "Shader compilation failed:\n" + blurShader.getLog());
-                throw new RuntimeException("Shader compilation failed: " + blurShader.getLog());
-            }
-        } catch (Exception e) {
-            Gdx.app.error("Shader", "Failed to load shaders: " + e.getMessage());
-            throw new RuntimeException("Failed to load shaders", e);
+        // The blur shader is owned by Assets, so it is only compiled once
+        blurShader = Assets.get(Assets.BLUR_SHADER, ShaderProgram.class);
+        if (!blurShader.isCompiled()) {
+            Gdx.app.error("Shader", "Shader compilation failed:\n" + blurShader.getLog());
+            throw new RuntimeException("Shader compilation failed: " + blurShader.getLog());
         }
 
         // Load background textures
-        backgroundTextures = new Texture[]{
-            new Texture(Gdx.files.internal("ui/Example1.png")),
-            new Texture(Gdx.files.internal("ui/Example2.png")),
-            new Texture(Gdx.files.internal("ui/Example3.png"))
-        };
+        backgroundTextures = new Texture[Assets.BACKGROUNDS.length];
+        for (int i = 0; i < backgroundTextures.length; i++) {
+            backgroundTextures[i] = Assets.getTexture(Assets.BACKGROUNDS[i]);
+        }
 
         // Load UI skin for buttons
-        skin = new Skin(Gdx.files.internal("ui/skin/uiskin.json"));
+        skin = Assets.getSkin();
+
+        dataManager = LeaderboardDataManager.getInstance();
 
-        dataManager = new LeaderboardDataManager();
-        entries = dataManager.getTopEntries(10);
+        // After a game open the page with the player's new score on it
+        if (previousScreen == Main.ScreenType.GAME) {
+            highlightedUsername = dataManager.getLastSavedUsername();
+            int rank = highlightedUsername == null ? -1 : dataManager.getRank(highlightedUsername);
+            if (rank > 0) {
+                page = (rank - 1) / PAGE_SIZE;
+            }
+        }
     }
 
     @Override
@@ -100,12 +105,12 @@ public class LeaderboardScreen implements Screen {
 
         // Create a custom input processor that handles ESC key
         InputMultiplexer inputMultiplexer = new InputMultiplexer(
-            new MainInputManager() {
+            new MainInputManager(game.getGameContext()) {
                 @Override
                 public boolean keyDown(int keycode) {
                     if (keycode == Keys.ESCAPE) {
                         // If we came from game screen and the game is over, go to menu
-                        if (previousScreen == Main.ScreenType.GAME && GameState.getState().gameOver) {
+                        if (previousScreen == Main.ScreenType.GAME && game.getGameContext().getGameState().gameOver) {
                             game.switchScreen(Main.ScreenType.MENU);
                         } else {
                             // Otherwise, go back to previous screen
@@ -147,16 +152,18 @@ public class LeaderboardScreen implements Screen {
         contentTable.add(labelsRow).expandX().fillX().pad(20).padBottom(30);
         contentTable.row();
 
-        // Add entries to the table
-        for (LeaderboardEntry entry : entries) {
+        // Add a row for each entry on a page, these are filled in by showPage
+        for (int i = 0; i < PAGE_SIZE; i++) {
             Table row = new Table();
             // Create a container for username that matches the header button width
             Table usernameCell = new Table();
-            usernameCell.add(new Label(entry.getUsername(), skin)).center();
+            usernameLabels[i] = new Label(null, skin);
+            usernameCell.add(usernameLabels[i]).center();
             
             // Create a container for score that matches the header button width
             Table scoreCell = new Table();
-            scoreCell.add(new Label(String.valueOf(entry.getScore()), skin)).center();
+            scoreLabels[i] = new Label(null, skin);
+            scoreCell.add(scoreLabels[i]).center();
             
             // Add the cells with the same widths and spacing as the headers
             row.add(usernameCell).width(200).padRight(100);
@@ -166,6 +173,30 @@ public class LeaderboardScreen implements Screen {
             contentTable.row();
         }
 
+        // Initialise page controls
+        previousButton = new TextButton("<", skin, "round");
+        previousButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                showPage(page - 1);
+            }
+        });
+        nextButton = new TextButton(">", skin, "round");
+        nextButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                showPage(page + 1);
+            }
+        });
+        pageLabel = new Label(null, skin);
+
+        Table pageRow = new Table();
+        pageRow.add(previousButton).width(40);
+        pageRow.add(pageLabel).width(120).center().padLeft(10).padRight(10);
+        pageRow.add(nextButton).width(40);
+        contentTable.add(pageRow).padBottom(20);
+        contentTable.row();
+
         // Add the content table to the container with some padding
         containerTable.add(contentTable).width(600).pad(50);
         containerTable.row();
@@ -176,7 +207,7 @@ public class LeaderboardScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 // If we came from game screen and the game is over, go to menu
-                if (previousScreen == Main.ScreenType.GAME && GameState.getState().gameOver) {
+                if (previousScreen == Main.ScreenType.GAME && game.getGameContext().getGameState().gameOver) {
                     game.switchScreen(Main.ScreenType.MENU);
                 } else {
                     // Otherwise, go back to previous screen
@@ -188,6 +219,38 @@ public class LeaderboardScreen implements Screen {
         // Add buttons to table with bottom alignment
         containerTable.row();  // Move to next row
         containerTable.add(backButton).colspan(2).padBottom(10);  // colspan(2) makes button span both columns
+
+        showPage(page);
+    }
+
+    /**
+     * Fill the rows with a page of the leaderboard.
+     *
+     * @param newPage the index of the page, this is clamped to the pages which exist.
+     */
+    private void showPage(int newPage) {
+        int pageCount = Math.max(1, (dataManager.getPlayerCount() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.max(0, Math.min(newPage, pageCount - 1));
+
+        List<LeaderboardEntry> entries = dataManager.getPage(page * PAGE_SIZE, PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i < entries.size()) {
+                LeaderboardEntry entry = entries.get(i);
+                Color color = entry.getUsername().equals(highlightedUsername) ? Color.GOLD : Color.WHITE;
+                usernameLabels[i].setText((page * PAGE_SIZE + i + 1) + ". " + entry.getUsername());
+                usernameLabels[i].setColor(color);
+                scoreLabels[i].setText(String.valueOf(entry.getScore()));
+                scoreLabels[i].setColor(color);
+            }
+            else {
+                usernameLabels[i].setText("");
+                scoreLabels[i].setText("");
+            }
+        }
+
+        pageLabel.setText("Page " + (page + 1) + " / " + pageCount);
+        previousButton.setDisabled(page == 0);
+        nextButton.setDisabled(page == pageCount - 1);
     }
 
     @Override
@@ -249,28 +312,14 @@ public class LeaderboardScreen implements Screen {
 
     @Override
     public void dispose() {
+        // The skin, shader and backgrounds are owned by Assets
         if (stage != null) {
             stage.dispose();
             stage = null;
         }
-        if (skin != null) {
-            skin.dispose();
-            skin = null;
-        }
-        if (backgroundTextures != null) {
-            for (Texture texture : backgroundTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
-            backgroundTextures = null;
-        }
         if (batch != null) {
             batch.dispose();
             batch = null;
         }
-        if (blurShader != null) {
-            blurShader.dispose();
-        }
     }
 }
@@ -4,7 +4,9 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -17,12 +19,16 @@ import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.spacecomplexity.longboilife.Main;
 import com.spacecomplexity.longboilife.MainInputManager;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.globals.Settings;
 import com.spacecomplexity.longboilife.game.globals.Window;
 import com.badlogic.gdx.Input.Keys;
 
 /**
  * Main class to control the menu screen.
+ * <p>
+ * The first time the menu is shown it loads every asset in the background, showing the progress until they have all
+ * loaded.
  */
 public class MenuScreen implements Screen {
     private final Main game;
@@ -35,6 +41,10 @@ public class MenuScreen implements Screen {
     private static final float BACKGROUND_SWITCH_TIME = 3f; // Switch every 3 seconds
 
     private SpriteBatch batch;
+    private ShapeRenderer shapeRenderer;
+
+    // Whether every asset has loaded, the menu is only shown once they have
+    private boolean loaded = false;
 
     private Stage stage;
     private Skin skin;
@@ -51,16 +61,10 @@ public class MenuScreen implements Screen {
         viewport = new ScalingViewport(Scaling.fit, Window.DEFAULT_WIDTH, Window.DEFAULT_HEIGHT);
         stage = new Stage(viewport);
         batch = new SpriteBatch();
+        shapeRenderer = new ShapeRenderer();
 
-        // Replace single background texture with array of textures
-        backgroundTextures = new Texture[]{
-            new Texture(Gdx.files.internal("ui/Example1.png")),
-            new Texture(Gdx.files.internal("ui/Example2.png")),
-            new Texture(Gdx.files.internal("ui/Example3.png"))
-        };
-
-        // Load UI skin for buttons
-        skin = new Skin(Gdx.files.internal("ui/skin/uiskin.json"));
+        // Start loading every asset in the background
+        Assets.queueAll();
     }
 
     @Override
@@ -68,9 +72,36 @@ public class MenuScreen implements Screen {
         // Recreate stage if it was disposed
         if (stage == null) {
             stage = new Stage(viewport);
-            skin = new Skin(Gdx.files.internal("ui/skin/uiskin.json"));
         }
-        
+
+        // The menu is built once the assets have loaded
+        if (loaded) {
+            buildMenu();
+        }
+    }
+
+    /**
+     * Use the loaded assets to create the menu.
+     */
+    private void onLoaded() {
+        loaded = true;
+
+        // Replace single background texture with array of textures
+        backgroundTextures = new Texture[Assets.BACKGROUNDS.length];
+        for (int i = 0; i < backgroundTextures.length; i++) {
+            backgroundTextures[i] = Assets.getTexture(Assets.BACKGROUNDS[i]);
+        }
+
+        // UI skin for buttons
+        skin = Assets.getSkin();
+
+        buildMenu();
+    }
+
+    /**
+     * Create the buttons of the menu and start handling input.
+     */
+    private void buildMenu() {
         // Set up input processor
         Gdx.input.setInputProcessor(stage);
         
@@ -143,7 +174,7 @@ public class MenuScreen implements Screen {
 
         // Create a custom input processor that handles ESC key
         InputMultiplexer inputMultiplexer = new InputMultiplexer(
-            new MainInputManager() {
+            new MainInputManager(game.getGameContext()) {
                 @Override
                 public boolean keyDown(int keycode) {
                     if (keycode == Keys.ESCAPE) {
@@ -162,6 +193,16 @@ public class MenuScreen implements Screen {
     public void render(float delta) {
         ScreenUtils.clear(0, 0, 0, 1f);
 
+        // Show the progress until every asset has loaded
+        if (!loaded) {
+            if (Assets.update()) {
+                onLoaded();
+            } else {
+                drawProgress(Assets.getProgress());
+                return;
+            }
+        }
+
         // Update background timer and index
         backgroundTimer += delta;
         if (backgroundTimer >= BACKGROUND_SWITCH_TIME) {
@@ -183,6 +224,27 @@ public class MenuScreen implements Screen {
         stage.draw();
     }
 
+    /**
+     * Draw a bar showing how much has loaded.
+     *
+     * @param progress the amount loaded, between 0 and 1.
+     */
+    private void drawProgress(float progress) {
+        float width = viewport.getWorldWidth() / 2;
+        float height = 20;
+        float x = (viewport.getWorldWidth() - width) / 2;
+        float y = (viewport.getWorldHeight() - height) / 2;
+
+        viewport.apply();
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, width, height);
+        shapeRenderer.setColor(Color.WHITE);
+        shapeRenderer.rect(x, y, width * progress, height);
+        shapeRenderer.end();
+    }
+
     @Override
     public void resize(int width, int height) {
         Window.update(width, height);
@@ -215,21 +277,16 @@ public class MenuScreen implements Screen {
             stage.dispose();
             stage = null;
         }
-        if (skin != null) {
-            skin.dispose();
-            skin = null;
-        }
-        if (backgroundTextures != null) {
-            for (Texture texture : backgroundTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
-            backgroundTextures = null;
-        }
+        // The skin and backgrounds are owned by Assets
+        skin = null;
+        backgroundTextures = null;
         if (batch != null) {
             batch.dispose();
             batch = null;
         }
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
     }
 }
@@ -18,8 +18,8 @@ import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.spacecomplexity.longboilife.Main;
 import com.spacecomplexity.longboilife.MainInputManager;
-import com.spacecomplexity.longboilife.game.globals.GameState;
-import com.spacecomplexity.longboilife.game.globals.MainTimer;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.globals.Assets;
 import com.spacecomplexity.longboilife.game.globals.Settings;
 import com.spacecomplexity.longboilife.game.globals.Window;
 import com.badlogic.gdx.scenes.scene2d.Actor;
@@ -61,8 +61,11 @@ public class SettingsScreen implements Screen {
         this.previousScreen = previousScreen;
         
         // Pauses the game so that when the settings menu is closed the game can know to resume instead of restart
-        GameState.getState().paused = true;
-        MainTimer.getTimerManager().getTimer().pauseTimer();
+        GameContext context = game.getGameContext();
+        if (context != null) {
+            context.getGameState().paused = true;
+            context.getTimer().pauseTimer();
+        }
 
         // Initialise viewport and drawing elements
         viewport = new ScalingViewport(Scaling.fit, Window.DEFAULT_WIDTH, Window.DEFAULT_HEIGHT);
@@ -71,11 +74,10 @@ public class SettingsScreen implements Screen {
 
         // Only load background textures if not coming from game screen
         if (previousScreen != Main.ScreenType.GAME) {
-            backgroundTextures = new Texture[]{
-                new Texture(Gdx.files.internal("ui/Example1.png")),
-                new Texture(Gdx.files.internal("ui/Example2.png")),
-                new Texture(Gdx.files.internal("ui/Example3.png"))
-            };
+            backgroundTextures = new Texture[Assets.BACKGROUNDS.length];
+            for (int i = 0; i < backgroundTextures.length; i++) {
+                backgroundTextures[i] = Assets.getTexture(Assets.BACKGROUNDS[i]);
+            }
         } else {
             // Capture the game screen
             int w = Gdx.graphics.getWidth();
@@ -98,29 +100,15 @@ public class SettingsScreen implements Screen {
             }
         }
 
-        // Load and compile shaders
-        ShaderProgram.pedantic = false;
-        try {
-            String vertexShader = Gdx.files.internal("shaders/blur.vert").readString();
-            String fragmentShader = Gdx.files.internal("shaders/blur.frag").readString();
-            
-            if (vertexShader == null || fragmentShader == null) {
-                throw new RuntimeException("Failed to load shader files");
-            }
-            
-            blurShader = new ShaderProgram(vertexShader, fragmentShader);
-            
-            if (!blurShader.isCompiled()) {
-                Gdx.app.error("Shader", "Shader compilation failed:\n" + blurShader.getLog());
-                throw new RuntimeException("Shader compilation failed: " + blurShader.getLog());
-            }
-        } catch (Exception e) {
-            Gdx.app.error("Shader", "Failed to load shaders: " + e.getMessage());
-            throw new RuntimeException("Failed to load shaders", e);
+        // The blur shader is owned by Assets, so it is only compiled once
+        blurShader = Assets.get(Assets.BLUR_SHADER, ShaderProgram.class);
+        if (!blurShader.isCompiled()) {
+            Gdx.app.error("Shader", "Shader compilation failed:\n" + blurShader.getLog());
+            throw new RuntimeException("Shader compilation failed: " + blurShader.getLog());
         }
 
         // Load UI skin for buttons
-        skin = new Skin(Gdx.files.internal("ui/skin/uiskin.json"));
+        skin = Assets.getSkin();
     }
 
     @Override
@@ -268,7 +256,7 @@ public class SettingsScreen implements Screen {
 
         // Create a custom input processor that handles ESC key
         InputMultiplexer inputMultiplexer = new InputMultiplexer(
-            new MainInputManager() {
+            new MainInputManager(game.getGameContext()) {
                 @Override
                 public boolean keyDown(int keycode) {
                     if (keycode == Keys.ESCAPE) {
@@ -359,32 +347,19 @@ public class SettingsScreen implements Screen {
 
     @Override
     public void dispose() {
+        // The skin, shader and backgrounds are owned by Assets
         if (stage != null) {
             stage.dispose();
             stage = null;
         }
-        if (skin != null) {
-            skin.dispose();
-            skin = null;
-        }
         if (batch != null) {
             batch.dispose();
             batch = null;
         }
-        if (blurShader != null) {
-            blurShader.dispose();
-            blurShader = null;
-        }
         if (gameScreenTexture != null) {
             gameScreenTexture.dispose();
             gameScreenTexture = null;
         }
-        if (backgroundTextures != null) {
-            for (Texture texture : backgroundTextures) {
-                texture.dispose();
-            }
-            backgroundTextures = null;
-        }
     }
 
     private void toggleFullscreen() {
@@ -0,0 +1,80 @@
+package com.spacecomplexity.longboilife.headless;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Summarises the distributions of the results of a batch of games.
+ */
+public class BatchReport {
+    private static final double[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    private final List<GameResult> results;
+
+    /**
+     * Create a report of a batch of games.
+     *
+     * @param results the results of each game.
+     * @throws IllegalArgumentException if there are no results.
+     */
+    public BatchReport(List<GameResult> results) throws IllegalArgumentException {
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("No results to report on");
+        }
+
+        this.results = results;
+    }
+
+    /**
+     * Format the report as a table with a row for each metric.
+     *
+     * @return the formatted report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d games%n", results.size()));
+        report.append(String.format("%-14s %14s %14s %14s %14s %14s %14s %14s %14s %14s%n",
+            "", "mean", "stddev", "min", "p5", "p25", "p50", "p75", "p95", "max"));
+
+        appendRow(report, "satisfaction", GameResult::satisfaction);
+        appendRow(report, "money", GameResult::money);
+        appendRow(report, "events", GameResult::events);
+        appendRow(report, "buildings", GameResult::buildings);
+
+        return report.toString();
+    }
+
+    /**
+     * Add a row summarising the distribution of one metric.
+     *
+     * @param report the report to add to.
+     * @param name   the name of the metric.
+     * @param metric the function to get the metric from a result.
+     */
+    private void appendRow(StringBuilder report, String name, ToDoubleFunction<GameResult> metric) {
+        double[] values = results.stream().mapToDouble(metric).sorted().toArray();
+
+        double mean = Arrays.stream(values).average().orElse(0);
+        double variance = Arrays.stream(values).map(value -> (value - mean) * (value - mean)).sum() / values.length;
+
+        report.append(String.format("%-14s %14.2f %14.2f %14.2f", name, mean, Math.sqrt(variance), values[0]));
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(" %14.2f", percentile(values, percentile)));
+        }
+        report.append(String.format(" %14.2f%n", values[values.length - 1]));
+    }
+
+    /**
+     * Get a percentile of sorted values using the nearest rank.
+     *
+     * @param sorted     the values in ascending order.
+     * @param percentile the percentile to get (between 0 and 100).
+     * @return the value at this percentile.
+     */
+    private static double percentile(double[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
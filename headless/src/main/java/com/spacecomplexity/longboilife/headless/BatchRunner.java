@@ -0,0 +1,153 @@
+package com.spacecomplexity.longboilife.headless;
+
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.building.BuildingType;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.simulation.BuildStrategy;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+import com.spacecomplexity.longboilife.game.simulation.SimulationClock;
+import com.spacecomplexity.longboilife.game.world.World;
+import com.spacecomplexity.longboilife.game.world.WorldGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays many simulated games in parallel to measure how the game is balanced.
+ * <p>
+ * Each game runs entirely on one worker thread with its own {@link GameContext} and seeded random number generators,
+ * so games never share any mutable state. The results are the same for the same seed
+ * regardless of the number of threads.
+ */
+public class BatchRunner {
+    /**
+     * The number of games to play.
+     */
+    public int games = 1000;
+
+    /**
+     * The number of games to play at once.
+     */
+    public int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The seed used to generate the seed of every game.
+     */
+    public long seed = 0;
+
+    /**
+     * The width of the world generated for each game.
+     */
+    public int worldWidth = 64;
+
+    /**
+     * The height of the world generated for each game.
+     */
+    public int worldHeight = 64;
+
+    /**
+     * The amount of simulated time between each decision of the strategy (in seconds).
+     */
+    public float decisionInterval = 5f;
+
+    private final Supplier<BuildStrategy> strategyFactory;
+
+    /**
+     * Create a batch runner.
+     *
+     * @param strategyFactory creates the strategy used to play each game.
+     */
+    public BatchRunner(Supplier<BuildStrategy> strategyFactory) {
+        this.strategyFactory = strategyFactory;
+    }
+
+    /**
+     * Play all the games, blocking until they have all finished.
+     *
+     * @return the results of every game, in the order of their seeds.
+     * @throws IllegalStateException if any of the games fail.
+     */
+    public List<GameResult> run() throws IllegalStateException {
+        // Generate every game seed up front so results do not depend on scheduling
+        SplittableRandom seedRng = new SplittableRandom(seed);
+        long[] gameSeeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            gameSeeds[i] = seedRng.nextLong();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<GameResult>> futures = new ArrayList<>(games);
+            for (long gameSeed : gameSeeds) {
+                futures.add(executor.submit(() -> playGame(gameSeed)));
+            }
+
+            List<GameResult> results = new ArrayList<>(games);
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Play a single game from start to finish on the current thread.
+     *
+     * @param gameSeed the seed for the world, game events and strategy.
+     * @return the result of the game.
+     */
+    public GameResult playGame(long gameSeed) {
+        SplittableRandom gameRng = new SplittableRandom(gameSeed);
+
+        // Every game has its own context, so nothing is shared between threads
+        GameContext context = new GameContext(gameRng.nextLong());
+        GameState gameState = context.getGameState();
+
+        // Generate an empty campus (only lakes and roads) for the strategy to build on
+        WorldGenerator generator = new WorldGenerator(gameRng.nextLong(), worldWidth, worldHeight);
+        for (BuildingType type : BuildingType.values()) {
+            generator.setBuildingDensity(type, 0);
+        }
+        World world = generator.generate(gameState);
+
+        context.setWorld(world);
+        Simulation simulation = context.getSimulation();
+        BuildStrategy strategy = strategyFactory.get();
+        RandomGenerator strategyRng = context.splitRng();
+
+        simulation.start();
+
+        // Run the game, letting the strategy act at a fixed interval of simulated time
+        int ticksPerDecision = Math.max(1, Math.round(decisionInterval / SimulationClock.FIXED_STEP));
+        for (long tick = 0; !gameState.gameOver; tick++) {
+            if (tick % ticksPerDecision == 0) {
+                strategy.act(simulation, strategyRng);
+            }
+
+            simulation.tick(SimulationClock.FIXED_STEP);
+        }
+
+        return new GameResult(
+            gameSeed,
+            gameState.satisfactionScore,
+            gameState.money,
+            gameState.getTotalEvents(),
+            world.getBuildings().size()
+        );
+    }
+}
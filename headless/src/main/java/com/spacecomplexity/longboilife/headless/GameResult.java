@@ -0,0 +1,13 @@
+package com.spacecomplexity.longboilife.headless;
+
+/**
+ * The outcome of a single simulated game.
+ *
+ * @param seed         the seed the game was played with.
+ * @param satisfaction the final satisfaction score (as a percentage).
+ * @param money        the final amount of money.
+ * @param events       the number of game events which occurred.
+ * @param buildings    the number of buildings (including roads) in the world at the end of the game.
+ */
+public record GameResult(long seed, double satisfaction, float money, int events, int buildings) {
+}
@@ -0,0 +1,79 @@
+package com.spacecomplexity.longboilife.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.events.GameEventTriggered;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+import com.spacecomplexity.longboilife.game.simulation.SimulationClock;
+import com.spacecomplexity.longboilife.game.tile.InvalidSaveMapException;
+import com.spacecomplexity.longboilife.game.world.World;
+import com.spacecomplexity.longboilife.game.world.WorldGenerator;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Application which runs a single game from start to finish without rendering, as fast as possible.
+ */
+public class HeadlessGame extends ApplicationAdapter {
+    /**
+     * The width of the world to generate, if 0 then "map.json" is loaded instead.
+     */
+    public int generateWidth = 0;
+
+    /**
+     * The height of the world to generate, if 0 then "map.json" is loaded instead.
+     */
+    public int generateHeight = 0;
+
+    /**
+     * The seed used to generate the world.
+     */
+    public long seed = 0;
+
+    /**
+     * The amount of simulated time for each simulation tick (in seconds).
+     */
+    public float step = SimulationClock.FIXED_STEP;
+
+    @Override
+    public void create() {
+        GameContext context = new GameContext();
+        GameState gameState = context.getGameState();
+
+        // Create the world to simulate
+        World world;
+        if (generateWidth > 0 && generateHeight > 0) {
+            world = new WorldGenerator(seed, generateWidth, generateHeight).generate(gameState);
+        } else {
+            try {
+                world = new World(Gdx.files.internal("map.json"), gameState);
+            } catch (FileNotFoundException | InvalidSaveMapException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        context.setWorld(world);
+        Simulation simulation = context.getSimulation();
+        context.getEventBus().subscribe(GameEventTriggered.TYPE, (event) -> Gdx.app.log("Event", event.event().name()));
+        simulation.start();
+
+        // Run the simulation until the game ends
+        long startTime = System.nanoTime();
+        long ticks = 0;
+        while (!gameState.gameOver) {
+            simulation.tick(step);
+            ticks++;
+        }
+        double wallSeconds = (System.nanoTime() - startTime) / 1e9;
+
+        Gdx.app.log("Simulation", String.format("World %dx%d with %d buildings",
+            world.getWidth(), world.getHeight(), world.getBuildings().size()));
+        Gdx.app.log("Simulation", String.format("Final satisfaction: %.2f%%", gameState.satisfactionScore));
+        Gdx.app.log("Simulation", String.format("Final money: %,.2f", gameState.money));
+        Gdx.app.log("Simulation", "Total events: " + gameState.getTotalEvents());
+        Gdx.app.log("Simulation", String.format("%d ticks in %.3fs (%.0f simulated seconds per second)",
+            ticks, wallSeconds, ticks * step / wallSeconds));
+    }
+}
@@ -0,0 +1,191 @@
+package com.spacecomplexity.longboilife.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.replay.Replay;
+import com.spacecomplexity.longboilife.game.replay.ReplayRunner;
+import com.spacecomplexity.longboilife.game.simulation.BuildStrategy;
+import com.spacecomplexity.longboilife.game.simulation.HeuristicBuildStrategy;
+import com.spacecomplexity.longboilife.game.simulation.RandomBuildStrategy;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Launches the game simulation without any rendering (using the libGDX headless backend).
+ * <p>
+ * Usage: {@code HeadlessLauncher [--generate WIDTHxHEIGHT] [--seed SEED] [--step SECONDS]}
+ * <ul>
+ *     <li>{@code --generate} simulate a procedurally generated world of this size instead of "map.json".</li>
+ *     <li>{@code --seed} the seed used to generate the world.</li>
+ *     <li>{@code --step} the amount of simulated time for each simulation tick.</li>
+ * </ul>
+ * <p>
+ * Or to play a batch of games in parallel with a build strategy:
+ * {@code HeadlessLauncher --batch GAMES [--threads THREADS] [--strategy heuristic|random] [--generate WIDTHxHEIGHT]
+ * [--seed SEED]}
+ * <p>
+ * Or to replay a game recorded by the desktop game (such as "replays/last.replay") at max speed and check it plays
+ * out the same: {@code HeadlessLauncher --replay FILE [--seek SECONDS]}
+ * <ul>
+ *     <li>{@code --seek} only play up to this point of the game, starting from the nearest keyframe.</li>
+ * </ul>
+ * <p>
+ * Or to check replays are deterministic, by recording a game on "map.json" played by a build strategy then replaying
+ * it: {@code HeadlessLauncher --check-replay FILE [--strategy heuristic|random] [--seed SEED]}
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        HeadlessGame game = new HeadlessGame();
+
+        int batchGames = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Supplier<BuildStrategy> strategy = HeuristicBuildStrategy::new;
+        String replayPath = null;
+        String checkReplayPath = null;
+        float seekSeconds = -1;
+
+        // Parse command line options
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--generate":
+                    String[] size = args[++i].split("x");
+                    game.generateWidth = Integer.parseInt(size[0]);
+                    game.generateHeight = Integer.parseInt(size[1]);
+                    break;
+                case "--seed":
+                    game.seed = Long.parseLong(args[++i]);
+                    break;
+                case "--step":
+                    game.step = Float.parseFloat(args[++i]);
+                    break;
+                case "--batch":
+                    batchGames = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--replay":
+                    replayPath = args[++i];
+                    break;
+                case "--check-replay":
+                    checkReplayPath = args[++i];
+                    break;
+                case "--seek":
+                    seekSeconds = Float.parseFloat(args[++i]);
+                    break;
+                case "--strategy":
+                    String name = args[++i];
+                    switch (name) {
+                        case "heuristic":
+                            strategy = HeuristicBuildStrategy::new;
+                            break;
+                        case "random":
+                            strategy = RandomBuildStrategy::new;
+                            break;
+                        default:
+                            System.err.println("Unknown strategy: " + name);
+                            System.exit(1);
+                    }
+                    break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(1);
+            }
+        }
+
+        // Neither do replay checks
+        if (checkReplayPath != null) {
+            ReplayCheck check = new ReplayCheck(strategy.get());
+            check.seed = game.seed;
+            try {
+                if (!check.run(new FileHandle(checkReplayPath))) {
+                    System.exit(1);
+                }
+            } catch (IOException e) {
+                System.err.println("Error checking replay: " + e.getMessage());
+                System.exit(1);
+            }
+            System.out.println("Replay matches recording");
+            return;
+        }
+
+        // Replays don't need libGDX either
+        if (replayPath != null) {
+            runReplay(replayPath, seekSeconds);
+            return;
+        }
+
+        // Batches don't need libGDX at all so run them directly
+        if (batchGames > 0) {
+            BatchRunner runner = new BatchRunner(strategy);
+            runner.games = batchGames;
+            runner.threads = threads;
+            runner.seed = game.seed;
+            if (game.generateWidth > 0 && game.generateHeight > 0) {
+                runner.worldWidth = game.generateWidth;
+                runner.worldHeight = game.generateHeight;
+            }
+
+            long startTime = System.nanoTime();
+            List<GameResult> results = runner.run();
+            double wallSeconds = (System.nanoTime() - startTime) / 1e9;
+
+            System.out.print(new BatchReport(results));
+            System.out.printf("Played in %.2fs on %d threads%n", wallSeconds, threads);
+            return;
+        }
+
+        // A negative update rate means the application will exit straight after being created
+        // The whole simulation is run as fast as possible within create
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+
+        new HeadlessApplication(game, configuration);
+    }
+
+    /**
+     * Play a recorded replay as fast as possible and report whether it played out as recorded.
+     *
+     * @param path        the path to the replay file.
+     * @param seekSeconds the amount of simulated time to play up to, or negative to play the whole replay.
+     */
+    private static void runReplay(String path, float seekSeconds) {
+        Replay replay = Replay.read(new FileHandle(path));
+        ReplayRunner runner = new ReplayRunner(replay);
+
+        long startTime = System.nanoTime();
+        GameContext context;
+        try {
+            // The map is resolved relative to the working directory, as it would be for the game's internal files
+            FileHandle mapFile = new FileHandle(new File(replay.getMap()));
+            if (seekSeconds < 0) {
+                context = runner.run(mapFile);
+            }
+            else {
+                context = runner.seek(mapFile, Math.round(seekSeconds / replay.getStep()));
+            }
+        } catch (FileNotFoundException e) {
+            System.err.println("Replay map not found: " + replay.getMap());
+            System.exit(1);
+            return;
+        }
+        double wallSeconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.println("Replayed " + replay.getCommands().size() + " commands (" + replay.getKeyframeCount()
+            + " keyframes): " + Replay.Outcome.of(context));
+        System.out.printf("Played in %.2fs%n", wallSeconds);
+        if (runner.getFailedCommands() > 0) {
+            System.out.println(runner.getFailedCommands() + " commands could not be carried out");
+        }
+        // Only a finished game can be compared with the recorded outcome
+        if (context.getGameState().gameOver) {
+            System.out.println(runner.matchesRecording(context) ? "Outcome matches recording" : "Outcome differs from recording");
+        }
+    }
+}
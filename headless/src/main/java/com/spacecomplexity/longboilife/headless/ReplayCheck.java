@@ -0,0 +1,136 @@
+package com.spacecomplexity.longboilife.headless;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.spacecomplexity.longboilife.game.GameContext;
+import com.spacecomplexity.longboilife.game.globals.Constants;
+import com.spacecomplexity.longboilife.game.globals.GameState;
+import com.spacecomplexity.longboilife.game.replay.Keyframe;
+import com.spacecomplexity.longboilife.game.replay.Replay;
+import com.spacecomplexity.longboilife.game.replay.ReplayRecorder;
+import com.spacecomplexity.longboilife.game.replay.ReplayRunner;
+import com.spacecomplexity.longboilife.game.simulation.BuildStrategy;
+import com.spacecomplexity.longboilife.game.simulation.Simulation;
+import com.spacecomplexity.longboilife.game.simulation.SimulationClock;
+import com.spacecomplexity.longboilife.game.world.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Checks that replays are deterministic, by recording a game played by a build strategy then replaying it.
+ * <p>
+ * The game is played the same way as the desktop game plays it, with the strategy giving commands between ticks and
+ * the event bus drained before the next tick runs. The replay must then end in exactly the same state with every
+ * command carried out, and seeking to the middle of the game must reach exactly the same state as was recorded.
+ */
+public class ReplayCheck {
+    /**
+     * The path to the map file the game is played on, relative to the working directory.
+     */
+    public String map = "map.json";
+
+    /**
+     * The seed of the game.
+     */
+    public long seed = 0;
+
+    /**
+     * The amount of simulated time between each decision of the strategy (in seconds).
+     */
+    public float decisionInterval = 5f;
+
+    private final BuildStrategy strategy;
+
+    /**
+     * Create a replay check.
+     *
+     * @param strategy the strategy used to play the game.
+     */
+    public ReplayCheck(BuildStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Record a game then replay it, reporting any differences.
+     *
+     * @param replayFile the file to record the replay to, this is overwritten.
+     * @return whether the replay played out exactly as the game was recorded.
+     * @throws IOException if the replay could not be recorded or the map could not be found.
+     */
+    public boolean run(FileHandle replayFile) throws IOException {
+        FileHandle mapFile = new FileHandle(new File(map));
+
+        GameContext context = new GameContext(seed);
+        GameState gameState = context.getGameState();
+        context.setWorld(new World(mapFile, gameState));
+        Simulation simulation = context.getSimulation();
+        RandomGenerator strategyRng = context.splitRng();
+
+        ReplayRecorder recorder = new ReplayRecorder(replayFile, seed, map, SimulationClock.FIXED_STEP,
+            ReplayRecorder.DEFAULT_KEYFRAME_INTERVAL);
+        simulation.setRecorder(recorder);
+        simulation.start();
+
+        // Remember the state about half way through the game, to check seeking to it
+        // This is between keyframes, so seeking has to run ticks after restoring the keyframe before it
+        long midTick = Math.round(
+            (Constants.GAME_LENGTH / 2.0 + ReplayRecorder.DEFAULT_KEYFRAME_INTERVAL / 2.0) / SimulationClock.FIXED_STEP
+        );
+        Keyframe midState = null;
+
+        int ticksPerDecision = Math.max(1, Math.round(decisionInterval / SimulationClock.FIXED_STEP));
+        while (!gameState.gameOver) {
+            if (simulation.getTickCount() % ticksPerDecision == 0) {
+                strategy.act(simulation, strategyRng);
+            }
+            // Handle the commands before the next tick, as the desktop game does
+            context.getEventBus().drain();
+
+            simulation.tick(SimulationClock.FIXED_STEP);
+
+            if (simulation.getTickCount() == midTick) {
+                midState = simulation.createKeyframe();
+            }
+        }
+
+        Keyframe recordedState = simulation.createKeyframe();
+        Replay.Outcome recorded = Replay.Outcome.of(context);
+        simulation.setRecorder(null);
+        recorder.close(recorded);
+
+        // Play the whole replay
+        Replay replay = Replay.read(replayFile);
+        ReplayRunner runner = new ReplayRunner(replay);
+        boolean matches = true;
+
+        GameContext replayed = runner.run(mapFile);
+        System.out.println("Recorded " + replay.getCommands().size() + " commands (" + replay.getKeyframeCount()
+            + " keyframes): " + recorded);
+        System.out.println("Replayed: " + Replay.Outcome.of(replayed));
+        if (runner.getFailedCommands() > 0) {
+            System.out.println(runner.getFailedCommands() + " commands could not be carried out");
+            matches = false;
+        }
+        if (!runner.matchesRecording(replayed)) {
+            System.out.println("Outcome differs from recording");
+            matches = false;
+        }
+        if (!replayed.getSimulation().createKeyframe().sameState(recordedState)) {
+            System.out.println("Final state differs from recording");
+            matches = false;
+        }
+
+        // Seek to the middle of the game
+        if (midState != null) {
+            GameContext sought = runner.seek(mapFile, midTick);
+            if (!sought.getSimulation().createKeyframe().sameState(midState)) {
+                System.out.println("Seeking to tick " + midTick + " gave " + Replay.Outcome.of(sought)
+                    + ", state differs from recording");
+                matches = false;
+            }
+        }
+
+        return matches;
+    }
+}